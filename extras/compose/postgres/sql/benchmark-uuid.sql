@@ -0,0 +1,60 @@
+-- Vergleich von zufaelligen UUIDs (v4) mit zeitlich sortierten UUIDs (v7) als Primaerschluessel:
+-- Dauer der INSERT-Anweisungen, Groesse des Primaerschluessel-Index und erzeugtes WAL-Volumen.
+-- Die Entities verwenden @UuidGenerator(style = VERSION_7), d.h. dasselbe Format wie uuidv7() ab PostgreSQL 18.
+--
+-- Aufruf im Docker Container:
+--    cd extras\compose\postgres
+--    docker compose exec db bash
+--       psql --dbname=postgres --username=postgres --file=/sql/benchmark-uuid.sql
+-- Vorher die Datei in das Verzeichnis kopieren, das in compose.yml nach /sql gemountet wird.
+-- CHECKPOINT erfordert einen Superuser oder die Rolle pg_checkpoint.
+--
+-- Die Anzahl der Zeilen kann mit --set=rows=5000000 geaendert werden.
+
+\if :{?rows}
+\else
+    \set rows 1000000
+\endif
+
+\timing on
+
+DROP TABLE IF EXISTS benchmark_uuid_v4;
+DROP TABLE IF EXISTS benchmark_uuid_v7;
+CREATE UNLOGGED TABLE IF NOT EXISTS benchmark_wal (variant TEXT PRIMARY KEY, wal_bytes NUMERIC);
+TRUNCATE benchmark_wal;
+
+-- Gleiche Zeilenbreite wie bei joboffer ohne Text-Spalten
+CREATE TABLE benchmark_uuid_v4 (id UUID PRIMARY KEY, version INTEGER NOT NULL DEFAULT 0, payload BIGINT NOT NULL);
+CREATE TABLE benchmark_uuid_v7 (id UUID PRIMARY KEY, version INTEGER NOT NULL DEFAULT 0, payload BIGINT NOT NULL);
+CHECKPOINT;
+
+-- -----------------------------------------------------------------------------
+-- UUID v4: zufaellig verteilte Schluessel, d.h. Einfuegen an beliebiger Stelle im B-Baum
+-- -----------------------------------------------------------------------------
+SELECT pg_current_wal_lsn() AS lsn_start \gset
+INSERT INTO benchmark_uuid_v4 (id, payload) SELECT gen_random_uuid(), g FROM generate_series(1, :rows) AS g;
+INSERT INTO benchmark_wal VALUES ('v4', pg_wal_lsn_diff(pg_current_wal_lsn(), :'lsn_start'));
+CHECKPOINT;
+
+-- -----------------------------------------------------------------------------
+-- UUID v7: aufsteigende Schluessel, d.h. Einfuegen am rechten Rand vom B-Baum
+-- -----------------------------------------------------------------------------
+SELECT pg_current_wal_lsn() AS lsn_start \gset
+INSERT INTO benchmark_uuid_v7 (id, payload) SELECT uuidv7(), g FROM generate_series(1, :rows) AS g;
+INSERT INTO benchmark_wal VALUES ('v7', pg_wal_lsn_diff(pg_current_wal_lsn(), :'lsn_start'));
+
+\timing off
+
+-- -----------------------------------------------------------------------------
+-- Ergebnis: Groesse des Index und WAL-Volumen je Variante
+-- -----------------------------------------------------------------------------
+SELECT w.variant,
+       pg_size_pretty(pg_relation_size('benchmark_uuid_' || w.variant || '_pkey')) AS index_size,
+       pg_size_pretty(pg_relation_size('benchmark_uuid_' || w.variant)) AS table_size,
+       pg_size_pretty(w.wal_bytes) AS wal
+FROM   benchmark_wal w
+ORDER BY w.variant;
+
+DROP TABLE benchmark_uuid_v4;
+DROP TABLE benchmark_uuid_v7;
+DROP TABLE benchmark_wal;
@@ -0,0 +1,38 @@
+package com.acme.jobconnect.controller;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/// Benchmark für das Auswerten des Request-Headers `If-Match` bei `PUT`.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ETagBenchmark {
+    /// Wert des Headers `If-Match`.
+    @Param({"\"0\"", "\"12345\""})
+    public String ifMatch;
+
+    private JobOfferWriteController controller;
+
+    /// Der Controller wird ohne Service und Mapper erzeugt, weil nur das Parsen des ETags gemessen wird.
+    @Setup
+    @SuppressWarnings("DataFlowIssue")
+    public void setup() {
+        controller = new JobOfferWriteController(null, null, new UriHelper());
+    }
+
+    /// Die Versionsnummer aus dem ETag ermitteln.
+    ///
+    /// @return Die Versionsnummer
+    @Benchmark
+    public int getVersion() {
+        return controller.getVersion(ifMatch);
+    }
+}
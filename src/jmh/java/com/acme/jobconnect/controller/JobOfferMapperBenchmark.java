@@ -0,0 +1,81 @@
+package com.acme.jobconnect.controller;
+
+import com.acme.jobconnect.entity.ApplicationStatus;
+import com.acme.jobconnect.entity.EmploymentType;
+import com.acme.jobconnect.entity.JobOffer;
+import com.acme.jobconnect.entity.JobOfferStatus;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import static java.util.UUID.randomUUID;
+
+/// Benchmarks für das Mapping zwischen DTOs, Entities und Response-Bodies, d.h. für `POST` und `GET`.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JobOfferMapperBenchmark {
+    private JobOfferMapper mapper;
+    private JobOfferDTO dto;
+    private JobOffer jobOffer;
+
+    /// DTO und Entity einmalig je Trial erzeugen.
+    @Setup
+    public void setup() {
+        mapper = new JobOfferMapperImpl();
+        final var applicationDTO = new ApplicationDTO(
+            "Theo Test",
+            URI.create("https://acme.com/resume.pdf"),
+            URI.create("https://acme.com/coverletter.pdf"),
+            LocalDate.now(),
+            List.of(URI.create("https://acme.com/zeugnis.pdf")),
+            ApplicationStatus.APPLIED
+        );
+        final var descriptionDTO = new JobDescriptionDTO(
+            "Junior Developer",
+            "Karlsruhe",
+            BigDecimal.valueOf(50_000),
+            "Entwicklung von Microservices mit Spring Boot",
+            "Design, Implementierung und Test von REST-Schnittstellen",
+            "Kenntnisse in Java, Spring und PostgreSQL",
+            EmploymentType.FULLTIME
+        );
+        dto = new JobOfferDTO(
+            "Mercedes-Benz AG",
+            LocalDate.now(),
+            LocalDate.now().plusMonths(3),
+            0,
+            JobOfferStatus.ACTIVE,
+            List.of(applicationDTO, applicationDTO),
+            descriptionDTO
+        );
+
+        jobOffer = mapper.toJobOffer(dto);
+        jobOffer.setId(randomUUID());
+        jobOffer.getDescription().setId(randomUUID());
+    }
+
+    /// DTO aus dem Request-Body von `POST` bzw. `PUT` in eine Entity konvertieren.
+    ///
+    /// @return Die neue Entity
+    @Benchmark
+    public JobOffer toJobOffer() {
+        return mapper.toJobOffer(dto);
+    }
+
+    /// Entity für den Response-Body von `GET` in ein Value Object ohne Applications konvertieren.
+    ///
+    /// @return Das Value Object
+    @Benchmark
+    public JobOfferWithoutApplications withoutApplications() {
+        return JobOfferWithoutApplications.of(jobOffer);
+    }
+}
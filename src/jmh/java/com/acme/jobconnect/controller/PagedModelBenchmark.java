@@ -0,0 +1,168 @@
+package com.acme.jobconnect.controller;
+
+import com.acme.jobconnect.entity.EmploymentType;
+import com.acme.jobconnect.entity.JobOfferStatus;
+import com.acme.jobconnect.repository.JobDescriptionSummary;
+import com.acme.jobconnect.repository.JobOfferField;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.web.PagedModel;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+import static java.util.UUID.randomUUID;
+
+/// Benchmark für die Serialisierung des Response-Bodys von `GET /api` mit _Jackson_, als JSON und als CBOR. Die
+/// Größe der Response-Bodys steht mit [Bytes] als zusätzliche Spalten im Ergebnis von _JMH_.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PagedModelBenchmark {
+    /// Anzahl der JobOffers je Seite.
+    @Param({"5", "20", "100"})
+    public int size;
+
+    /// Ausgewählte Attribute wie beim Query-Parameter `fields`; leer für alle Attribute ohne `details`.
+    @Param({"", "company,title"})
+    public String fields;
+
+    private JsonMapper jsonMapper;
+    private JsonMapper streamingMapper;
+    private CBORMapper cborMapper;
+    private PagedModel<JobOfferWithoutApplications> pagedModel;
+    private byte[] json;
+    private byte[] cbor;
+
+    /// Eine Seite mit `size` JobOffers einmalig je Trial erzeugen.
+    @Setup
+    public void setup() {
+        // wie spring.jackson.default-property-inclusion in application.yml, d.h. ohne null-Werte
+        jsonMapper = JsonMapper.builder()
+            .changeDefaultPropertyInclusion(incl -> incl.withValueInclusion(NON_NULL))
+            .build();
+        // wie JacksonConfig mit app.json.streaming-writer: true
+        streamingMapper = jsonMapper.rebuild()
+            .addModule(new SimpleModule().addSerializer(
+                JobOfferWithoutApplications.class,
+                new JobOfferWithoutApplicationsSerializer()
+            ))
+            .build();
+        // wie JacksonConfig.cborHttpMessageConverter()
+        cborMapper = CBORMapper.builder()
+            .changeDefaultPropertyInclusion(incl -> incl.withValueInclusion(NON_NULL))
+            .addModule(new SimpleModule().addSerializer(
+                JobOfferWithoutApplications.class,
+                new JobOfferWithoutApplicationsSerializer()
+            ))
+            .build();
+        final var selectedFields = Arrays.stream(fields.split(","))
+            .filter(name -> !name.isBlank())
+            .map(JobOfferField::of)
+            .collect(Collectors.toCollection(() -> EnumSet.noneOf(JobOfferField.class)));
+        final var content = IntStream.range(0, size)
+            .mapToObj(i -> new JobOfferWithoutApplications(
+                randomUUID(),
+                "Firma " + i,
+                LocalDate.now(),
+                LocalDate.now().plusMonths(3),
+                i,
+                JobOfferStatus.ACTIVE,
+                new JobDescriptionSummary(
+                    randomUUID(),
+                    "Junior Developer " + i,
+                    "Karlsruhe",
+                    BigDecimal.valueOf(50_000),
+                    "Entwicklung von Microservices mit Spring Boot",
+                    EmploymentType.FULLTIME,
+                    null,
+                    null
+                )
+            ))
+            .map(jobOffer -> selectedFields.isEmpty() ? jobOffer : jobOffer.narrow(selectedFields))
+            .toList();
+        pagedModel = new PagedModel<>(new PageImpl<>(content, PageRequest.of(0, size), size * 10L));
+        json = streamingMapper.writeValueAsBytes(pagedModel);
+        cbor = cborMapper.writeValueAsBytes(pagedModel);
+    }
+
+    /// Eine Seite als JSON serialisieren.
+    ///
+    /// @return JSON als Byte-Array
+    @Benchmark
+    public byte[] serialize() {
+        return jsonMapper.writeValueAsBytes(pagedModel);
+    }
+
+    /// Eine Seite mit [JobOfferWithoutApplicationsSerializer] als JSON serialisieren.
+    ///
+    /// @param bytes Größe der Response-Bodys für das Ergebnis von _JMH_
+    /// @return JSON als Byte-Array
+    @Benchmark
+    public byte[] serializeStreaming(final Bytes bytes) {
+        return streamingMapper.writeValueAsBytes(pagedModel);
+    }
+
+    /// Eine Seite als CBOR serialisieren.
+    ///
+    /// @param bytes Größe der Response-Bodys für das Ergebnis von _JMH_
+    /// @return CBOR als Byte-Array
+    @Benchmark
+    public byte[] serializeCbor(final Bytes bytes) {
+        return cborMapper.writeValueAsBytes(pagedModel);
+    }
+
+    /// Eine Seite im JSON-Format einlesen, wie bei einem internen Client.
+    ///
+    /// @return Eingelesene Seite als Baum
+    @Benchmark
+    public JsonNode parse() {
+        return streamingMapper.readTree(json);
+    }
+
+    /// Eine Seite im CBOR-Format einlesen, wie bei einem internen Client.
+    ///
+    /// @return Eingelesene Seite als Baum
+    @Benchmark
+    public JsonNode parseCbor() {
+        return cborMapper.readTree(cbor);
+    }
+
+    /// Größe der Response-Bodys in Bytes, die _JMH_ als zusätzliche Spalten `json` und `cbor` ausgibt.
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Bytes {
+        /// Größe des JSON-Datensatzes.
+        public long json;
+
+        /// Größe des CBOR-Datensatzes.
+        public long cbor;
+
+        /// Die Größen je Iteration setzen, weil _JMH_ die Zähler am Ende jeder Iteration ausliest.
+        ///
+        /// @param benchmark Benchmark mit den serialisierten Response-Bodys
+        @Setup(Level.Iteration)
+        public void setup(final PagedModelBenchmark benchmark) {
+            json = benchmark.json.length;
+            cbor = benchmark.cbor.length;
+        }
+    }
+}
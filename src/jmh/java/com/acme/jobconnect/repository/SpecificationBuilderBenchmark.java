@@ -0,0 +1,53 @@
+package com.acme.jobconnect.repository;
+
+import com.acme.jobconnect.entity.JobOffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.jpa.domain.Specification;
+
+/// Benchmarks für das Bauen einer `Specification` aus den Query-Parametern von `GET /api`.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SpecificationBuilderBenchmark {
+    private SpecificationBuilder specificationBuilder;
+    private Map<String, List<String>> company;
+    private Map<String, List<String>> combined;
+
+    /// Query-Parameter einmalig je Trial erzeugen.
+    @Setup
+    public void setup() {
+        specificationBuilder = new SpecificationBuilder();
+        company = Map.of("company", List.of("Merc"));
+        combined = Map.of(
+            "company", List.of("Merc"),
+            "status", List.of("ACTIVE"),
+            "minViews", List.of("10"),
+            SpecificationBuilder.FULLTEXT_PARAM, List.of("java spring")
+        );
+    }
+
+    /// Specification für einen einzelnen Query-Parameter.
+    ///
+    /// @return Die Specification
+    @Benchmark
+    public Specification<JobOffer> company() {
+        return specificationBuilder.build(company);
+    }
+
+    /// Specification für mehrere Query-Parameter einschließlich Volltextsuche.
+    ///
+    /// @return Die Specification
+    @Benchmark
+    public Specification<JobOffer> combined() {
+        return specificationBuilder.build(combined);
+    }
+}
@@ -16,6 +16,7 @@
  */
 package com.acme.jobconnect;
 
+import com.acme.jobconnect.config.CacheMetricsConfig;
 import com.acme.jobconnect.config.DevConfig;
 import com.acme.jobconnect.config.WebConfig;
 import com.acme.jobconnect.security.SecurityConfig;
@@ -25,6 +26,7 @@ import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import static com.acme.jobconnect.Banner.TEXT;
 
@@ -32,11 +34,12 @@ import static com.acme.jobconnect.Banner.TEXT;
 ///
 /// @author [Jürgen Zimmermann](mailto:Juergen.Zimmermann@h-ka.de)
 @SpringBootApplication(proxyBeanMethods = false)
-@Import({SecurityConfig.class, WebConfig.class, DevConfig.class})
+@Import({SecurityConfig.class, WebConfig.class, DevConfig.class, CacheMetricsConfig.class})
 @ConfigurationPropertiesScan
 @EnableJpaRepositories
 @EnableMethodSecurity
 @EnableAsync
+@EnableScheduling
 //@EnableConfigurationProperties(KeycloakConfig.class)
 @SuppressWarnings({"ClassUnconnectedToPackage"})
 public final class Application {
@@ -0,0 +1,41 @@
+package com.acme.jobconnect.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/// Metriken für den 2nd-Level-Cache und den Query-Cache von _Hibernate_ über _Actuator_, z.B.
+/// `/actuator/metrics/cache.gets?tag=result:hit`, `cache.puts` und `cache.evictions` je Region.
+@Configuration(proxyBeanMethods = false)
+public class CacheMetricsConfig {
+    /// Konstruktor mit _package private_ für _Spring_.
+    CacheMetricsConfig() {
+        // leerer Rumpf
+    }
+
+    /// Bean-Definition, um alle Caches von _JCache_ bei _Micrometer_ zu registrieren. Die Statistik muss in
+    /// `application.conf` mit `monitoring.statistics = true` aktiviert sein.
+    ///
+    /// @param entityManagerFactory Injiziertes Objekt, um an den `CacheManager` von _Hibernate_ zu gelangen
+    /// @return `MeterBinder` für die Caches
+    @Bean
+    MeterBinder secondLevelCacheMetrics(final EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            final var regionFactory = entityManagerFactory
+                .unwrap(SessionFactoryImplementor.class)
+                .getCache()
+                .getRegionFactory();
+            if (!(regionFactory instanceof JCacheRegionFactory jcacheRegionFactory)) {
+                return;
+            }
+            final var cacheManager = jcacheRegionFactory.getCacheManager();
+            cacheManager.getCacheNames().forEach(name ->
+                JCacheMetrics.monitor(registry, cacheManager.getCache(name))
+            );
+        };
+    }
+}
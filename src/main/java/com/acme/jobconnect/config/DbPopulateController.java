@@ -17,6 +17,7 @@
 package com.acme.jobconnect.config;
 
 import com.acme.jobconnect.security.RolleAdmin;
+import jakarta.persistence.EntityManagerFactory;
 import java.util.Map;
 import org.flywaydb.core.Flyway;
 import org.slf4j.Logger;
@@ -36,13 +37,16 @@ import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 @Profile(DEV)
 class DbPopulateController {
     private final Flyway flyway;
+    private final EntityManagerFactory entityManagerFactory;
     private final StableValue<Logger> logger = StableValue.of();
 
     /// Konstruktor mit `package private` für Constructor Injection bei _Spring_.
     ///
     /// @param flyway Injiziertes Objekt für die Integration mit _Flyway_.
-    DbPopulateController(final Flyway flyway) {
+    /// @param entityManagerFactory Injiziertes Objekt, um den 2nd-Level-Cache von _Hibernate_ zu leeren.
+    DbPopulateController(final Flyway flyway, final EntityManagerFactory entityManagerFactory) {
         this.flyway = flyway;
+        this.entityManagerFactory = entityManagerFactory;
     }
 
     /// Die (Test-) DB wird bei einem POST-Request neu geladen.
@@ -54,6 +58,8 @@ class DbPopulateController {
         getLogger().warn("Die DB wird neu geladen");
         flyway.clean();
         flyway.migrate();
+        // Die Daten im 2nd-Level-Cache passen nicht mehr zur neu geladenen DB
+        entityManagerFactory.getCache().evictAll();
         getLogger().warn("Die DB wurde neu geladen");
         return Map.of("db_populate", "ok");
     }
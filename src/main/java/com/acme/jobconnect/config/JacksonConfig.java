@@ -0,0 +1,51 @@
+package com.acme.jobconnect.config;
+
+import com.acme.jobconnect.controller.JobOfferWithoutApplications;
+import com.acme.jobconnect.controller.JobOfferWithoutApplicationsSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import tools.jackson.databind.JacksonModule;
+import tools.jackson.databind.module.SimpleModule;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+/// Zusätzliche Serializer für _Jackson_, die _Spring Boot_ beim `JsonMapper` für _Spring MVC_ registriert, und
+/// [CBOR](https://www.rfc-editor.org/rfc/rfc8949) als binäres Format neben JSON.
+///
+/// Mit `app.json.streaming-writer: false` werden die Suchergebnisse wieder reflektiv serialisiert.
+@Configuration(proxyBeanMethods = false)
+public class JacksonConfig {
+    /// Konstruktor mit _package private_ für _Spring_.
+    JacksonConfig() {
+        // leerer Rumpf
+    }
+
+    /// Bean-Definition für den Serializer von [JobOfferWithoutApplications] mit vorab kodierten Attributnamen.
+    ///
+    /// @return Modul mit dem Serializer
+    @Bean
+    @ConditionalOnProperty(name = "app.json.streaming-writer", havingValue = "true", matchIfMissing = true)
+    JacksonModule jobOfferStreamingModule() {
+        return new SimpleModule("jobOfferStreaming")
+            .addSerializer(JobOfferWithoutApplications.class, new JobOfferWithoutApplicationsSerializer());
+    }
+
+    /// Bean-Definition für Request- und Response-Bodies mit `Content-Type` bzw. `Accept` `application/cbor`, z.B.
+    /// für interne Clients mit vielen Aufrufen von `GET /api`. Ohne passenden `Accept`-Header bleibt JSON das
+    /// Format, weil es bei `produces` zuerst aufgeführt ist. Wie beim `JsonMapper` werden `null`-Werte ausgelassen
+    /// und dieselben Module wie z.B. der Serializer für [JobOfferWithoutApplications] verwendet.
+    ///
+    /// @param modules Injizierte Module für _Jackson_
+    /// @return Konverter für CBOR
+    @Bean
+    JacksonCborHttpMessageConverter cborHttpMessageConverter(final ObjectProvider<JacksonModule> modules) {
+        final var cborMapper = CBORMapper.builder()
+            .changeDefaultPropertyInclusion(incl -> incl.withValueInclusion(NON_NULL))
+            .addModules(modules.orderedStream().toList())
+            .build();
+        return new JacksonCborHttpMessageConverter(cborMapper);
+    }
+}
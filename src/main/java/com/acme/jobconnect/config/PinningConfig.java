@@ -0,0 +1,19 @@
+package com.acme.jobconnect.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/// Spring-Konfiguration für Properties `app.diagnostics.virtual-thread-pinning.*`.
+///
+/// @param enabled `true`, um die JFR-Events `jdk.VirtualThreadPinned` als Metriken zu erfassen
+/// @param threshold Minimale Dauer, ab der JFR ein Pinning als Event meldet
+@ConfigurationProperties("app.diagnostics.virtual-thread-pinning")
+public record PinningConfig(
+    @DefaultValue("false")
+    boolean enabled,
+
+    @DefaultValue("PT20MS")
+    Duration threshold
+) {
+}
@@ -0,0 +1,117 @@
+package com.acme.jobconnect.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/// Diagnose-Modus für das Pinning von Virtual Threads: Die JFR-Events `jdk.VirtualThreadPinned` werden mit einem
+/// `RecordingStream` in der laufenden JVM gelesen und als Timer `jobconnect.threads.virtual.pinned` je Endpunkt
+/// exportiert, z.B. `/actuator/metrics/jobconnect.threads.virtual.pinned?tag=endpoint:JobOfferController.get`.
+///
+/// Der Endpunkt ist die Controller-Methode im Stacktrace des Events. Fehlt sie, weil JFR standardmäßig nur 64 Frames
+/// aufzeichnet, wird die äußerste sichtbare Methode der Anwendung verwendet, z.B. eine Methode im Repository. Mit
+/// `-XX:FlightRecorderOptions:stackdepth=256` sind auch tiefe Aufrufe z.B. im JDBC-Treiber einem Endpunkt zuordenbar.
+///
+/// Aktiviert mit `app.diagnostics.virtual-thread-pinning.enabled: true`.
+@Component
+@ConditionalOnProperty(name = "app.diagnostics.virtual-thread-pinning.enabled", havingValue = "true")
+public class VirtualThreadPinningMetrics implements SmartLifecycle {
+    /// Name der Metrik für die Dauer des Pinnings.
+    static final String PINNED_TIMER = "jobconnect.threads.virtual.pinned";
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.acme.jobconnect.";
+    private static final String CONTROLLER_PACKAGE = APP_PACKAGE + "controller.";
+    private static final String CONTROLLER_SUFFIX = "Controller";
+    private static final String LAMBDA_PREFIX = "lambda$";
+    private static final String UNKNOWN = "unknown";
+
+    private final MeterRegistry registry;
+    private final PinningConfig config;
+    private final StableValue<Logger> logger = StableValue.of();
+
+    @Nullable
+    private RecordingStream recordingStream;
+
+    VirtualThreadPinningMetrics(final MeterRegistry registry, final PinningConfig config) {
+        this.registry = registry;
+        this.config = config;
+    }
+
+    @Override
+    public synchronized void start() {
+        final var stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(config.threshold()).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+        recordingStream = stream;
+        getLogger().info("start: Pinning von Virtual Threads ab {} wird erfasst", config.threshold());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void record(final RecordedEvent event) {
+        final var endpoint = toEndpoint(event);
+        final var reason = event.hasField("pinnedReason") ? event.getString("pinnedReason") : null;
+        getLogger().debug("record: endpoint={}, duration={}, reason={}", endpoint, event.getDuration(), reason);
+        Timer.builder(PINNED_TIMER)
+            .description("Dauer, in der ein Virtual Thread an seinen Carrier Thread gebunden ist")
+            .tag("endpoint", endpoint)
+            .tag("reason", reason == null ? UNKNOWN : reason)
+            .register(registry)
+            .record(event.getDuration());
+    }
+
+    private static String toEndpoint(final RecordedEvent event) {
+        final var stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return UNKNOWN;
+        }
+        // Frames beginnen mit der innersten Methode, d.h. die Methode der Anwendung am weitesten aussen ist die letzte
+        @Nullable RecordedFrame outermost = null;
+        for (final var frame : stackTrace.getFrames()) {
+            final var type = frame.getMethod().getType().getName();
+            if (type.startsWith(CONTROLLER_PACKAGE) && type.endsWith(CONTROLLER_SUFFIX)) {
+                return toName(frame);
+            }
+            if (type.startsWith(APP_PACKAGE)) {
+                outermost = frame;
+            }
+        }
+        return outermost == null ? UNKNOWN : toName(outermost);
+    }
+
+    private static String toName(final RecordedFrame frame) {
+        final var method = frame.getMethod();
+        final var type = method.getType().getName();
+        // z.B. lambda$get$0 fuer den Aufruf mit ConcurrencyLimiter innerhalb von get()
+        final var name = method.getName();
+        final var methodName = name.startsWith(LAMBDA_PREFIX)
+            ? name.substring(LAMBDA_PREFIX.length(), name.indexOf('$', LAMBDA_PREFIX.length()))
+            : name;
+        return type.substring(type.lastIndexOf('.') + 1) + '.' + methodName;
+    }
+
+    private Logger getLogger() {
+        return logger.orElseSet(() -> LoggerFactory.getLogger(VirtualThreadPinningMetrics.class));
+    }
+}
@@ -0,0 +1,182 @@
+package com.acme.jobconnect.controller;
+
+import com.acme.jobconnect.entity.ApplicationStatus;
+import com.acme.jobconnect.repository.ApplicationSummary;
+import com.acme.jobconnect.security.RolleAdminOrUser;
+import com.acme.jobconnect.service.ApplicationService;
+import com.acme.jobconnect.service.ApplicationWriteService;
+import com.acme.jobconnect.service.ConcurrencyLimiter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import static com.acme.jobconnect.controller.Constants.API_PATH;
+import static com.acme.jobconnect.controller.Constants.APPLICATIONS_PATH;
+import static com.acme.jobconnect.controller.Constants.CREATE_TAG;
+import static com.acme.jobconnect.controller.Constants.ID_PATTERN;
+import static com.acme.jobconnect.controller.Constants.OVERLOADED;
+import static com.acme.jobconnect.controller.Constants.SEARCH_TAG;
+import static com.acme.jobconnect.controller.Constants.VERSION_2;
+import static com.acme.jobconnect.controller.Constants.VERSION_2_EXAMPLE;
+import static com.acme.jobconnect.controller.Constants.X_VERSION;
+import static com.acme.jobconnect.service.ApplicationService.KEYSET_SORT;
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.ResponseEntity.created;
+
+/// Controller für die Bewerbungen zu einem JobOffer als eigene Ressource `/api/{id}/applications`. Im Gegensatz
+/// zu `GET /api/{id}?applications=true` werden die Bewerbungen fensterweise gelesen, so dass auch JobOffers mit
+/// sehr vielen Bewerbungen mit konstantem Speicherbedarf ausgelesen werden. Neue Bewerbungen werden angehängt,
+/// ohne das JobOffer zu laden.
+@RestController
+@RequestMapping(API_PATH)
+class ApplicationController {
+    private static final String DEFAULT_PAGE_SIZE = "20";
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ApplicationService service;
+    private final ApplicationWriteService writeService;
+    private final ConcurrencyLimiter limiter;
+    private final JobOfferMapper mapper;
+    private final UriHelper uriHelper;
+    private final StableValue<Logger> logger = StableValue.of();
+
+    ApplicationController(
+        final ApplicationService service,
+        final ApplicationWriteService writeService,
+        final ConcurrencyLimiter limiter,
+        final JobOfferMapper mapper,
+        final UriHelper uriHelper
+    ) {
+        this.service = service;
+        this.writeService = writeService;
+        this.limiter = limiter;
+        this.mapper = mapper;
+        this.uriHelper = uriHelper;
+    }
+
+    /// Bewerbungen zu einem JobOffer mit Keyset-Pagination suchen. Ein fehlender oder leerer Cursor liefert das
+    /// erste Fenster.
+    ///
+    /// @param id ID des JobOffers
+    /// @param status Optionaler Status der Bewerbungen
+    /// @param from Optionales frühestes Datum der Bewerbungen
+    /// @param to Optionales spätestes Datum der Bewerbungen
+    /// @param cursor Opakes Cursor-Token aus `next` der vorherigen Response
+    /// @param size Maximale Anzahl an Bewerbungen im Fenster, höchstens 100
+    /// @return Fenster mit den gefundenen Bewerbungen
+    @GetMapping(
+        path = "{id:" + ID_PATTERN + "}" + APPLICATIONS_PATH,
+        produces = APPLICATION_JSON_VALUE,
+        version = VERSION_2
+    )
+    @RolleAdminOrUser
+    @Operation(summary = "Bewerbungen zu einer JobOffer mit Keyset-Pagination suchen", tags = SEARCH_TAG)
+    @Parameter(name = X_VERSION, in = ParameterIn.HEADER, example = VERSION_2_EXAMPLE)
+    @ApiResponse(responseCode = "200", description = "Bewerbungen gefunden")
+    @ApiResponse(responseCode = "400", description = "Ungueltiger Cursor")
+    @ApiResponse(responseCode = "404", description = "JobOffer nicht gefunden")
+    @ApiResponse(responseCode = "503", description = OVERLOADED)
+    @SuppressWarnings("ParameterNumber")
+    WindowModel<ApplicationSummary> getApplications(
+        @PathVariable final UUID id,
+        @RequestParam(required = false) @Nullable final ApplicationStatus status,
+        @RequestParam(required = false) @DateTimeFormat(iso = DATE) @Nullable final LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DATE) @Nullable final LocalDate to,
+        @RequestParam(required = false) @Nullable final String cursor,
+        @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) final int size
+    ) {
+        getLogger().debug(
+            "getApplications: id={}, status={}, from={}, to={}, cursor={}, size={}",
+            id, status, from, to, cursor, size
+        );
+        final var position = ScrollCursor.decode(cursor, KEYSET_SORT);
+        final var windowSize = Math.clamp(size, 1, MAX_PAGE_SIZE);
+        final var window = limiter.call(() -> service.findByJobOfferId(id, status, from, to, position, windowSize));
+        final var next = window.hasNext() && !window.isEmpty()
+            && window.positionAt(window.size() - 1) instanceof KeysetScrollPosition position
+            ? ScrollCursor.encode(position)
+            : null;
+        getLogger().debug("getApplications: size={}, next={}", window.size(), next);
+        return new WindowModel<>(window.getContent(), next, null);
+    }
+
+    /// Eine Bewerbung zu einem JobOffer anhand ihrer ID suchen.
+    ///
+    /// @param id ID des JobOffers
+    /// @param applicationId ID der Bewerbung
+    /// @return Die gefundene Bewerbung
+    @GetMapping(
+        path = "{id:" + ID_PATTERN + "}" + APPLICATIONS_PATH + "/{applicationId:" + ID_PATTERN + "}",
+        produces = APPLICATION_JSON_VALUE,
+        version = VERSION_2
+    )
+    @RolleAdminOrUser
+    @Operation(summary = "Eine Bewerbung zu einer JobOffer anhand der ID suchen", tags = SEARCH_TAG)
+    @Parameter(name = X_VERSION, in = ParameterIn.HEADER, example = VERSION_2_EXAMPLE)
+    @ApiResponse(responseCode = "200", description = "Bewerbung gefunden")
+    @ApiResponse(responseCode = "404", description = "Bewerbung nicht gefunden")
+    @ApiResponse(responseCode = "503", description = OVERLOADED)
+    ApplicationSummary getApplicationById(@PathVariable final UUID id, @PathVariable final UUID applicationId) {
+        getLogger().debug("getApplicationById: id={}, applicationId={}", id, applicationId);
+        return limiter.call(() -> service.findById(id, applicationId));
+    }
+
+    /// Eine neue Bewerbung zu einem JobOffer anlegen. Die Bewerbung wird mit einem einzelnen `INSERT` über den
+    /// Fremdschlüssel angehängt, d.h. ohne das JobOffer zu laden und ohne dessen Version zu erhöhen. Gleichzeitige
+    /// Bewerbungen auf dasselbe JobOffer blockieren sich deshalb nicht gegenseitig.
+    ///
+    /// @param id ID des JobOffers
+    /// @param applicationDTO Die neue Bewerbung aus dem Request-Body
+    /// @param request Servlet-Request für die URI der neuen Bewerbung
+    /// @return Response mit Statuscode 201 und der URI der neuen Bewerbung im Header `Location`
+    @PostMapping(
+        path = "{id:" + ID_PATTERN + "}" + APPLICATIONS_PATH,
+        consumes = APPLICATION_JSON_VALUE,
+        version = VERSION_2
+    )
+    @RolleAdminOrUser
+    @Operation(summary = "Eine neue Bewerbung zu einer JobOffer anlegen", tags = CREATE_TAG)
+    @Parameter(name = X_VERSION, in = ParameterIn.HEADER, example = VERSION_2_EXAMPLE)
+    @ApiResponse(responseCode = "201", description = "Bewerbung neu angelegt")
+    @ApiResponse(responseCode = "400", description = "Syntaktische Fehler im Request-Body")
+    @ApiResponse(responseCode = "404", description = "JobOffer nicht gefunden")
+    @ApiResponse(responseCode = "422", description = "Ungültige Werte")
+    @ApiResponse(responseCode = "503", description = OVERLOADED)
+    ResponseEntity<Void> postApplication(
+        @PathVariable final UUID id,
+        @RequestBody @Validated final ApplicationDTO applicationDTO,
+        final HttpServletRequest request
+    ) {
+        getLogger().debug("postApplication: id={}, applicationDTO={}", id, applicationDTO);
+        final var newApplication = mapper.toApplication(applicationDTO);
+        final var application = limiter.callUnsampled(() -> writeService.create(id, newApplication));
+        final var location = URI.create(
+            uriHelper.getBaseUri(request).toString() + '/' + id + APPLICATIONS_PATH + '/' + application.getId()
+        );
+        getLogger().debug("postApplication: location={}", location);
+        return created(location).build();
+    }
+
+    private Logger getLogger() {
+        return logger.orElseSet(() -> LoggerFactory.getLogger(ApplicationController.class));
+    }
+}
@@ -0,0 +1,12 @@
+package com.acme.jobconnect.controller;
+
+import org.jspecify.annotations.Nullable;
+
+/// Ergebnis für ein einzelnes JobOffer im Response-Body von `POST /api/batch`.
+///
+/// @param index Position des JobOffers im Request-Body, bei NDJSON die Zeilennummer ab 0 ohne Leerzeilen
+/// @param status HTTP-Statuscode, den ein einzelnes `POST` für das JobOffer geliefert hätte
+/// @param location URI des neu angelegten JobOffers oder `null`
+/// @param detail Fehlermeldung oder `null`, falls das JobOffer neu angelegt wurde
+public record BatchItemModel(int index, int status, @Nullable String location, @Nullable String detail) {
+}
@@ -32,6 +32,15 @@ final class Constants {
 
     static final String COMPANY_PATH = "/company";
 
+    /// Pfad für den Export aller JobOffers als NDJSON.
+    static final String EXPORT_PATH = "/export";
+
+    /// Pfad für das Neuanlegen mehrerer JobOffers auf einmal.
+    static final String BATCH_PATH = "/batch";
+
+    /// Pfad für die Bewerbungen zu einem JobOffer als Sub-Ressource.
+    static final String APPLICATIONS_PATH = "/applications";
+
     static final String SEARCH_TAG = "Search";
 
     static final String CREATE_TAG = "Create";
@@ -40,6 +49,12 @@ final class Constants {
 
     static final String DELETE_TAG = "Delete";
 
+    /// Media Type für _JSON Merge Patch_ gemäß _RFC 7396_
+    static final String MERGE_PATCH_JSON_VALUE = "application/merge-patch+json";
+
+    /// Beschreibung für Swagger bei Statuscode 503, siehe Klasse `ConcurrencyLimiter`
+    static final String OVERLOADED = "Überlastet, erneut versuchen nach Retry-After";
+
     /// Version-Header für Swagger
     static final String X_VERSION = "X-Version";
 
@@ -16,15 +16,25 @@
  */
 package com.acme.jobconnect.controller;
 
+import com.acme.jobconnect.service.JobOfferExistsException;
 import com.acme.jobconnect.service.NotFoundException;
+import com.acme.jobconnect.service.OverloadedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.HttpStatus.UNPROCESSABLE_CONTENT;
 
 /// Handler für allgemeine Exceptions.
 ///
@@ -48,6 +58,85 @@ public class GlobalExceptionHandler {
         return ResponseEntity.notFound().build();
     }
 
+    /// [ExceptionHandler], falls es bereits ein JobOffer der Firma mit demselben Titel gibt, mit Statuscode 409 wie
+    /// bei einem Duplikat in `POST /api/batch`.
+    ///
+    /// @param ex Die zugehörige [JobOfferExistsException].
+    /// @return ErrorResponse mit `ProblemDetail` gemäß _RFC 9457_.
+    @ExceptionHandler
+    ErrorResponse onJobOfferExists(final JobOfferExistsException ex) {
+        getLogger().debug("onJobOfferExists: {}", ex.getMessage());
+        return ErrorResponse.create(ex, CONFLICT, ex.getMessage());
+    }
+
+    /// [ExceptionHandler] für ein ungültiges Cursor-Token bei der Keyset-Pagination.
+    ///
+    /// @param ex Die zugehörige [InvalidCursorException].
+    /// @return ErrorResponse mit `ProblemDetail` gemäß _RFC 9457_.
+    @ExceptionHandler
+    ErrorResponse onInvalidCursor(final InvalidCursorException ex) {
+        getLogger().debug("onInvalidCursor: {}", ex.getMessage());
+        return ErrorResponse.create(ex, BAD_REQUEST, ex.getMessage());
+    }
+
+    /// [ExceptionHandler] für unbekannte Attribute im Query-Parameter `fields`.
+    ///
+    /// @param ex Die zugehörige [InvalidFieldsException].
+    /// @return ErrorResponse mit `ProblemDetail` gemäß _RFC 9457_.
+    @ExceptionHandler
+    ErrorResponse onInvalidFields(final InvalidFieldsException ex) {
+        getLogger().debug("onInvalidFields: {}", ex.getMessage());
+        return ErrorResponse.create(ex, BAD_REQUEST, ex.getMessage());
+    }
+
+    /// [ExceptionHandler] für einen _JSON Merge Patch_ mit nicht änderbaren Attributen oder ungültigen Werten.
+    ///
+    /// @param ex Die zugehörige [InvalidPatchException].
+    /// @return ErrorResponse mit `ProblemDetail` gemäß _RFC 9457_.
+    @ExceptionHandler
+    ErrorResponse onInvalidPatch(final InvalidPatchException ex) {
+        getLogger().debug("onInvalidPatch: {}", ex.getMessage());
+        return ErrorResponse.create(ex, UNPROCESSABLE_CONTENT, ex.getMessage());
+    }
+
+    /// [ExceptionHandler], falls die gleichzeitigen Zugriffe auf die DB ausgeschöpft sind. Der Header `Retry-After`
+    /// enthält die Wartezeit in Sekunden, mindestens 1.
+    ///
+    /// @param ex Die zugehörige [OverloadedException].
+    /// @return ErrorResponse mit `ProblemDetail` gemäß _RFC 9457_.
+    @ExceptionHandler
+    ErrorResponse onOverloaded(final OverloadedException ex) {
+        getLogger().debug("onOverloaded: {}", ex.getMessage());
+        final var retryAfterSeconds = Math.max(1L, ex.getRetryAfter().toSeconds());
+        return ErrorResponse.builder(ex, SERVICE_UNAVAILABLE, ex.getMessage())
+            .header(RETRY_AFTER, String.valueOf(retryAfterSeconds))
+            .build();
+    }
+
+    /// [ExceptionHandler] für [MethodArgumentNotValidException]
+    ///
+    /// @param ex Exception für Fehler im Request-Body bei `POST` oder `PUT` gemäß _Jakarta Validation_.
+    /// @return ErrorResponse mit `ProblemDetail` gemäß _RFC 9457_.
+    @ExceptionHandler
+    ErrorResponse onConstraintViolations(final MethodArgumentNotValidException ex) {
+        final var detailMessages = ex.getDetailMessageArguments();
+        final var detail = detailMessages.length == 0 || detailMessages[1] == null
+            ? "Constraint Violation"
+            : ((String) detailMessages[1]).replace(", and ", ", ");
+        return ErrorResponse.create(ex, UNPROCESSABLE_CONTENT, detail);
+    }
+
+    /// [ExceptionHandler] für [HttpMessageNotReadableException]
+    ///
+    /// @param ex Exception für den syntaktisch falschen Request-Body bei `POST` oder `PUT`.
+    /// @return ErrorResponse mit `ProblemDetail` gemäß _RFC 9457_.
+    @ExceptionHandler
+    ErrorResponse onMessageNotReadable(final HttpMessageNotReadableException ex) {
+        final var msg = ex.getMessage() == null ? "N/A" : ex.getMessage();
+        getLogger().debug("onMessageNotReadable: {}", msg);
+        return ErrorResponse.create(ex, BAD_REQUEST, msg);
+    }
+
     private Logger getLogger() {
         return logger.orElseSet(() -> LoggerFactory.getLogger(GlobalExceptionHandler.class));
     }
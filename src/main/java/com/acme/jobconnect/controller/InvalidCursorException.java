@@ -0,0 +1,29 @@
+package com.acme.jobconnect.controller;
+
+import java.io.Serial;
+
+/// Exception, falls das Cursor-Token für die Keyset-Pagination syntaktisch ungültig ist.
+class InvalidCursorException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = -2398471626405919541L;
+
+    /// Konstruktor für die Verwendung in [ScrollCursor].
+    ///
+    /// @param cursor Das ungültige Cursor-Token
+    InvalidCursorException(final String cursor) {
+        super("Ungueltiger Cursor " + cursor);
+    }
+
+    /// Konstruktor für die Verwendung in [ScrollCursor].
+    ///
+    /// @param cursor Das ungültige Cursor-Token
+    /// @param ex Verursachende Exception
+    InvalidCursorException(final String cursor, final Exception ex) {
+        super("Ungueltiger Cursor " + cursor, ex);
+    }
+
+    @Override
+    public String getMessage() {
+        return super.getMessage() == null ? "" : super.getMessage();
+    }
+}
@@ -0,0 +1,21 @@
+package com.acme.jobconnect.controller;
+
+import java.io.Serial;
+
+/// Exception, falls der Query-Parameter `fields` ein unbekanntes Attribut enthält.
+class InvalidFieldsException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = 5163920547741806218L;
+
+    /// Konstruktor für die Verwendung in [JobOfferController].
+    ///
+    /// @param fields Der ungültige Wert des Query-Parameters
+    InvalidFieldsException(final String fields) {
+        super("Ungueltige Attribute " + fields);
+    }
+
+    @Override
+    public String getMessage() {
+        return super.getMessage() == null ? "" : super.getMessage();
+    }
+}
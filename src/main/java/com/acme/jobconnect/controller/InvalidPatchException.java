@@ -0,0 +1,21 @@
+package com.acme.jobconnect.controller;
+
+import java.io.Serial;
+
+/// Exception, falls ein _JSON Merge Patch_ nicht änderbare Attribute oder ungültige Werte enthält.
+class InvalidPatchException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = 2870546193386720451L;
+
+    /// Konstruktor für die Verwendung in [JobOfferWriteController].
+    ///
+    /// @param detail Die fehlerhaften Attribute mit Fehlermeldung
+    InvalidPatchException(final String detail) {
+        super(detail);
+    }
+
+    @Override
+    public String getMessage() {
+        return super.getMessage() == null ? "" : super.getMessage();
+    }
+}
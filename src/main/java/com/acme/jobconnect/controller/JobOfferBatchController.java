@@ -0,0 +1,187 @@
+package com.acme.jobconnect.controller;
+
+import com.acme.jobconnect.entity.JobOffer;
+import com.acme.jobconnect.security.RolleAdmin;
+import com.acme.jobconnect.service.BatchResult;
+import com.acme.jobconnect.service.ConcurrencyLimiter;
+import com.acme.jobconnect.service.JobOfferBatchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import jakarta.validation.groups.Default;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+import static com.acme.jobconnect.controller.Constants.API_PATH;
+import static com.acme.jobconnect.controller.Constants.BATCH_PATH;
+import static com.acme.jobconnect.controller.Constants.CREATE_TAG;
+import static com.acme.jobconnect.controller.Constants.OVERLOADED;
+import static com.acme.jobconnect.controller.Constants.VERSION_2;
+import static com.acme.jobconnect.controller.Constants.VERSION_2_EXAMPLE;
+import static com.acme.jobconnect.controller.Constants.X_VERSION;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.UNPROCESSABLE_CONTENT;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+
+/// Controller, um viele JobOffers auf einmal neu anzulegen, z.B. beim Import der Stellenangebote eines Partners.
+/// Der Response-Body enthält ein Ergebnis je JobOffer, so dass einzelne fehlerhafte JobOffers nicht den ganzen
+/// Import verhindern.
+@RestController
+@RequestMapping(API_PATH)
+class JobOfferBatchController {
+    private final JobOfferBatchService service;
+    private final ConcurrencyLimiter limiter;
+    private final JobOfferMapper mapper;
+    private final UriHelper uriHelper;
+    private final Validator validator;
+    private final JsonMapper jsonMapper;
+    private final StableValue<Logger> logger = StableValue.of();
+
+    JobOfferBatchController(
+        final JobOfferBatchService service,
+        final ConcurrencyLimiter limiter,
+        final JobOfferMapper mapper,
+        final UriHelper uriHelper,
+        final Validator validator,
+        final JsonMapper jsonMapper
+    ) {
+        this.service = service;
+        this.limiter = limiter;
+        this.mapper = mapper;
+        this.uriHelper = uriHelper;
+        this.validator = validator;
+        this.jsonMapper = jsonMapper;
+    }
+
+    /// Mehrere JobOffers als JSON-Array neu anlegen. Ist ein Element syntaktisch falsch, wird der ganze Request mit
+    /// Statuscode 400 abgelehnt; für fehlertolerante Importe gibt es NDJSON.
+    ///
+    /// @param jobOfferDTOs Die neu anzulegenden JobOffers
+    /// @param request Servlet-Request für die URIs der neu angelegten JobOffers
+    /// @return Ergebnis je JobOffer
+    @PostMapping(path = BATCH_PATH, consumes = APPLICATION_JSON_VALUE, produces = APPLICATION_JSON_VALUE,
+        version = VERSION_2)
+    @RolleAdmin
+    @Operation(summary = "Mehrere JobOffers als JSON-Array neu anlegen", tags = CREATE_TAG)
+    @Parameter(name = X_VERSION, in = ParameterIn.HEADER, example = VERSION_2_EXAMPLE)
+    @ApiResponse(responseCode = "200", description = "Ergebnis je JobOffer")
+    @ApiResponse(responseCode = "400", description = "Syntaktische Fehler im Request-Body")
+    @ApiResponse(responseCode = "503", description = OVERLOADED)
+    List<BatchItemModel> postBatch(
+        @RequestBody final List<JobOfferDTO> jobOfferDTOs,
+        final HttpServletRequest request
+    ) {
+        getLogger().debug("postBatch: {} JobOffers", jobOfferDTOs.size());
+        final var items = new ArrayList<BatchItem>(jobOfferDTOs.size());
+        jobOfferDTOs.forEach(dto -> items.add(new BatchItem(dto, null)));
+        return createAll(items, request);
+    }
+
+    /// Mehrere JobOffers als NDJSON, d.h. ein JSON-Objekt je Zeile, neu anlegen. Der Request-Body wird zeilenweise
+    /// gelesen, und syntaktisch falsche Zeilen erhalten den Statuscode 400 im Ergebnis.
+    ///
+    /// @param request Servlet-Request mit dem Request-Body
+    /// @return Ergebnis je JobOffer
+    /// @throws IOException falls der Request-Body nicht gelesen werden kann
+    @PostMapping(path = BATCH_PATH, consumes = APPLICATION_NDJSON_VALUE, produces = APPLICATION_JSON_VALUE,
+        version = VERSION_2)
+    @RolleAdmin
+    @Operation(summary = "Mehrere JobOffers als NDJSON neu anlegen", tags = CREATE_TAG)
+    @Parameter(name = X_VERSION, in = ParameterIn.HEADER, example = VERSION_2_EXAMPLE)
+    @ApiResponse(responseCode = "200", description = "Ergebnis je JobOffer")
+    @ApiResponse(responseCode = "503", description = OVERLOADED)
+    List<BatchItemModel> postBatchNdjson(final HttpServletRequest request) throws IOException {
+        getLogger().debug("postBatchNdjson");
+        final var items = new ArrayList<BatchItem>();
+        try (var reader = new BufferedReader(new InputStreamReader(request.getInputStream(), UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    items.add(new BatchItem(jsonMapper.readValue(line, JobOfferDTO.class), null));
+                } catch (final JacksonException ex) {
+                    items.add(new BatchItem(null, ex.getOriginalMessage()));
+                }
+            }
+        }
+        getLogger().debug("postBatchNdjson: {} JobOffers", items.size());
+        return createAll(items, request);
+    }
+
+    private List<BatchItemModel> createAll(final List<BatchItem> items, final HttpServletRequest request) {
+        final var models = new BatchItemModel[items.size()];
+        final var validIndexes = new ArrayList<Integer>(items.size());
+        final var jobOffers = new ArrayList<JobOffer>(items.size());
+
+        for (var i = 0; i < items.size(); i++) {
+            final var item = items.get(i);
+            final var dto = item.dto();
+            if (dto == null) {
+                models[i] = new BatchItemModel(i, BAD_REQUEST.value(), null, item.parseError());
+                continue;
+            }
+            final var violations = validator.validate(dto, Default.class, JobOfferDTO.OnCreate.class);
+            if (!violations.isEmpty()) {
+                models[i] = new BatchItemModel(i, UNPROCESSABLE_CONTENT.value(), null, toDetail(violations));
+                continue;
+            }
+            validIndexes.add(i);
+            jobOffers.add(mapper.toJobOffer(dto));
+        }
+
+        final var baseUri = uriHelper.getBaseUri(request).toString();
+        limiter.callUnsampled(() -> service.createAll(jobOffers)).forEach(result -> {
+            final int index = validIndexes.get(result.index());
+            models[index] = toModel(index, result, baseUri);
+        });
+        return Arrays.asList(models);
+    }
+
+    private static BatchItemModel toModel(final int index, final BatchResult result, final String baseUri) {
+        return switch (result.outcome()) {
+            case CREATED -> new BatchItemModel(index, CREATED.value(), baseUri + '/' + result.id(), null);
+            case DUPLICATE -> new BatchItemModel(index, CONFLICT.value(), null, result.message());
+            case FAILED -> new BatchItemModel(index, INTERNAL_SERVER_ERROR.value(), null, result.message());
+        };
+    }
+
+    private static String toDetail(final Set<ConstraintViolation<JobOfferDTO>> violations) {
+        return violations.stream()
+            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+            .sorted()
+            .collect(Collectors.joining(", "));
+    }
+
+    private Logger getLogger() {
+        return logger.orElseSet(() -> LoggerFactory.getLogger(JobOfferBatchController.class));
+    }
+
+    /// Ein gelesenes JobOffer oder die Fehlermeldung, falls die NDJSON-Zeile nicht gelesen werden konnte.
+    private record BatchItem(@Nullable JobOfferDTO dto, @Nullable String parseError) {
+    }
+}
@@ -1,7 +1,13 @@
 package com.acme.jobconnect.controller;
 
+import com.acme.jobconnect.repository.JobOfferField;
+import com.acme.jobconnect.repository.JobOfferSummary;
+import com.acme.jobconnect.security.RolleAdmin;
 import com.acme.jobconnect.security.RolleAdminOrUser;
+import com.acme.jobconnect.service.ConcurrencyLimiter;
+import com.acme.jobconnect.service.JobOfferExportService;
 import com.acme.jobconnect.service.JobOfferService;
+import com.acme.jobconnect.service.ViewCounter;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -9,10 +15,17 @@ import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.annotation.Nullable;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.EnumSet;
+import java.util.Set;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Window;
 import org.springframework.data.web.PagedModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.MultiValueMap;
@@ -22,18 +35,26 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import tools.jackson.databind.json.JsonMapper;
 import static com.acme.jobconnect.controller.Constants.API_PATH;
 import static com.acme.jobconnect.controller.Constants.COMPANY_PATH;
+import static com.acme.jobconnect.controller.Constants.EXPORT_PATH;
 import static com.acme.jobconnect.controller.Constants.ID_PATTERN;
+import static com.acme.jobconnect.controller.Constants.OVERLOADED;
 import static com.acme.jobconnect.controller.Constants.SEARCH_TAG;
 import static com.acme.jobconnect.controller.Constants.VERSION_1;
 import static com.acme.jobconnect.controller.Constants.VERSION_2;
 import static com.acme.jobconnect.controller.Constants.VERSION_2_EXAMPLE;
 import static com.acme.jobconnect.controller.Constants.X_VERSION;
+import static com.acme.jobconnect.service.JobOfferService.COMPANY_SORT;
+import static com.acme.jobconnect.service.JobOfferService.SEARCH_SORT;
 import static org.springframework.http.HttpStatus.NOT_MODIFIED;
+import static org.springframework.http.MediaType.APPLICATION_CBOR_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 import static org.springframework.http.ResponseEntity.ok;
 import static org.springframework.http.ResponseEntity.status;
+import static tools.jackson.databind.SerializationFeature.INDENT_OUTPUT;
 
 @RestController
 @RequestMapping(API_PATH)
@@ -42,42 +63,88 @@ class JobOfferController {
     private static final String DEFAULT_APPLICATIONS = "false";
     private static final String DEFAULT_PAGE = "0";
     private static final String DEFAULT_PAGE_SIZE = "5";
+    private static final String DEFAULT_COUNT = "false";
+    private static final String DEFAULT_DETAILS = "false";
+    private static final String DETAILS_PARAM = "details";
+    private static final String FIELDS_PARAM = "fields";
+    private static final String CURSOR_PARAM = "cursor";
+    private static final int MAX_WINDOW_SIZE = 100;
 
     private final JobOfferService service;
+    private final ConcurrencyLimiter limiter;
+    private final JobOfferExportService exportService;
+    private final ViewCounter viewCounter;
+    private final JsonMapper jsonMapper;
     private final StableValue<Logger> logger = StableValue.of();
 
-    JobOfferController(final JobOfferService service) {
+    JobOfferController(
+        final JobOfferService service,
+        final ConcurrencyLimiter limiter,
+        final JobOfferExportService exportService,
+        final ViewCounter viewCounter,
+        final JsonMapper jsonMapper
+    ) {
         this.service = service;
+        this.limiter = limiter;
+        this.exportService = exportService;
+        this.viewCounter = viewCounter;
+        this.jsonMapper = jsonMapper;
     }
 
-    @GetMapping(path = "{id:" + ID_PATTERN + "}", produces = APPLICATION_JSON_VALUE, version = VERSION_2)
+    @GetMapping(
+        path = "{id:" + ID_PATTERN + "}",
+        produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE},
+        version = VERSION_2
+    )
     @RolleAdminOrUser
     @Operation(summary = "Suche mit JobOffer Id", tags = SEARCH_TAG)
     @Parameter(name = X_VERSION, in = ParameterIn.HEADER, example = VERSION_2_EXAMPLE)
     @ApiResponse(responseCode = "200", description = "JobOffer gefunden")
+    @ApiResponse(responseCode = "304", description = "JobOffer nicht geaendert")
+    @ApiResponse(responseCode = "400", description = "Unbekannte Attribute in fields")
     @ApiResponse(responseCode = "404", description = "JobOffer nicht gefunden")
+    @ApiResponse(responseCode = "503", description = OVERLOADED)
     @SuppressWarnings("ReturnCount")
     ResponseEntity<Object> getById(
         @PathVariable final UUID id,
         @RequestParam(defaultValue = DEFAULT_APPLICATIONS) final boolean applications,
+        @RequestParam(FIELDS_PARAM) @Nullable final String fields,
         @RequestHeader("If-None-Match") @Nullable final String ifNoneMatch
     ) {
-        getLogger().debug("getById: id={}, applications={}, ifNonMatch={}", id, applications, ifNoneMatch);
+        getLogger().debug(
+            "getById: id={}, applications={}, fields={}, ifNonMatch={}", id, applications, fields, ifNoneMatch
+        );
+        // Auswahl der Attribute vor dem Lesen pruefen; mit applications=true wird das JobOffer vollstaendig geliefert
+        final var selectedFields = parseFields(fields);
 
-        if (applications) {
-            return getByIdWithDescriptionAndApplications(id, ifNoneMatch);
+        // Neue Bewerbungen erhoehen nicht die Version, deshalb gilt die Abkuerzung nicht fuer applications=true
+        if (ifNoneMatch != null && !applications) {
+            // Bedingter GET-Request: nur die Version lesen, ohne JobOffer und Stellenbeschreibung zu laden
+            final var version = limiter.call(() -> service.findVersionById(id));
+            if (version != null && toETag(version).equals(ifNoneMatch)) {
+                getLogger().trace("getById: version={}", ifNoneMatch);
+                viewCounter.increment(id);
+                return status(NOT_MODIFIED).eTag(ifNoneMatch).build();
+            }
         }
-        return getByIdWithDescription(id, ifNoneMatch);
+
+        final var response = limiter.call(() -> applications
+            ? getByIdWithDescriptionAndApplications(id, ifNoneMatch)
+            : getByIdWithDescription(id, selectedFields, ifNoneMatch));
+        // Aufruf erst nach dem Lesen zaehlen, d.h. nicht bei NotFoundException
+        viewCounter.increment(id);
+        return response;
     }
 
     private ResponseEntity<Object> getByIdWithDescription(
         final UUID id,
+        @Nullable final Set<JobOfferField> fields,
         @Nullable final String ifNoneMatch
     ) {
         getLogger().trace("getByIdWithDescription: id={}, ifNonMatch={}", id, ifNoneMatch);
 
         final var jobOffer = service.findByIdWithDescription(id);
-        final var versionStr = "\"" + jobOffer.getVersion() + '"';
+        final var versionStr = toETag(jobOffer.getVersion());
         if (versionStr.equals(ifNoneMatch)) {
             getLogger().trace("getByIdWithDescription: version={}", ifNoneMatch);
             return status(NOT_MODIFIED).build();
@@ -85,7 +152,9 @@ class JobOfferController {
 
         getLogger().trace("getByIdWithDescription: jobOffer={}, description={}", jobOffer, jobOffer.getDescription());
 
-        return ok().eTag(versionStr).body(JobOfferWithoutApplications.of(jobOffer));
+        // Das JobOffer kommt i.d.R. aus dem 2nd-Level-Cache, deshalb wird nur der JSON-Datensatz eingeschraenkt
+        final var body = JobOfferWithoutApplications.of(jobOffer);
+        return ok().eTag(versionStr).body(fields == null ? body : body.narrow(fields));
     }
 
     private ResponseEntity<Object> getByIdWithDescriptionAndApplications(
@@ -95,7 +164,8 @@ class JobOfferController {
         getLogger().trace("getByIdWithDescriptionAndApplications: id={}, ifNonMatch={}", id, ifNoneMatch);
 
         final var jobOffer = service.findByIdWithDescriptionAndApplications(id);
-        final var versionStr = "\"" + jobOffer.getVersion() + '"';
+        // Bewerbungen werden nur hinzugefuegt, deshalb erkennt ihre Anzahl jede Aenderung ohne neue Version
+        final var versionStr = toETag(jobOffer.getVersion(), jobOffer.getApplications().size());
         if (versionStr.equals(ifNoneMatch)) {
             getLogger().trace("getByIdWithDescriptionAndApplications: version={}", ifNoneMatch);
             return status(NOT_MODIFIED).build();
@@ -108,41 +178,260 @@ class JobOfferController {
         return ok().eTag(versionStr).body(jobOffer);
     }
 
-    @GetMapping(path = COMPANY_PATH + "/{company}", produces = APPLICATION_JSON_VALUE, version = VERSION_2)
+    /// JobOffers zu einem Präfix des Firmennamens suchen. Es werden nur die Spalten für die Auflistung gelesen; die
+    /// Aufgaben und Anforderungen der Stellenbeschreibung nur mit `details=true`.
+    ///
+    /// @param company Präfix des Firmennamens
+    /// @param page Nummer der Seite
+    /// @param size Anzahl der JobOffers je Seite
+    /// @param details `true`, falls auch Aufgaben und Anforderungen geliefert werden sollen
+    /// @param fields Kommaseparierte Liste der zu liefernden Attribute, z.B. `company,title`; hat Vorrang vor
+    ///        `details`
+    /// @return Seite mit den gefundenen JobOffers
+    @GetMapping(
+        path = COMPANY_PATH + "/{company}",
+        produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE},
+        version = VERSION_2
+    )
     @Operation(summary = "Search JobOffers by company", tags = SEARCH_TAG)
     @Parameter(name = X_VERSION, in = ParameterIn.HEADER, example = VERSION_2_EXAMPLE)
+    @ApiResponse(responseCode = "503", description = OVERLOADED)
     PagedModel<JobOfferWithoutApplications> getByCompany(
         @PathVariable final String company,
         @RequestParam(defaultValue = DEFAULT_PAGE) final int page,
-        @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) final int size
+        @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) final int size,
+        @RequestParam(name = DETAILS_PARAM, defaultValue = DEFAULT_DETAILS) final boolean details,
+        @RequestParam(FIELDS_PARAM) @Nullable final String fields
     ) {
-        getLogger().debug("getByCompany: {}", company);
+        getLogger().debug("getByCompany: {}, details={}, fields={}", company, details, fields);
         final var pageable = PageRequest.of(page, size);
-        final var jobOfferPage = service.findByCompany(company, pageable).map(JobOfferWithoutApplications::of);
+        final var selectedFields = toFields(fields, details);
+        final var jobOfferPage = limiter.call(() -> service.findSummariesByCompany(company, pageable, selectedFields))
+            .map(JobOfferWithoutApplications::of);
         getLogger().debug("getByCompany: {}", jobOfferPage);
         return new PagedModel<>(jobOfferPage);
     }
 
-    @GetMapping(produces = APPLICATION_JSON_VALUE, version = VERSION_2)
+    /// JobOffers zu einem Präfix des Firmennamens mit Keyset-Pagination suchen, falls der Query-Parameter `cursor`
+    /// angegeben ist. Ein leerer Cursor liefert das erste Fenster.
+    ///
+    /// @param company Präfix des Firmennamens
+    /// @param cursor Opakes Cursor-Token aus `next` der vorherigen Response
+    /// @param size Maximale Anzahl an Datensätzen im Fenster, höchstens 100
+    /// @param count `true`, falls zusätzlich die Gesamtanzahl ermittelt werden soll
+    /// @param details `true`, falls auch Aufgaben und Anforderungen geliefert werden sollen
+    /// @param fields Kommaseparierte Liste der zu liefernden Attribute, z.B. `company,title`; hat Vorrang vor
+    ///        `details`
+    /// @return Fenster mit den gefundenen JobOffers
+    @GetMapping(
+        path = COMPANY_PATH + "/{company}",
+        params = CURSOR_PARAM,
+        produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE},
+        version = VERSION_2
+    )
+    @Operation(summary = "Search JobOffers by company with keyset pagination", tags = SEARCH_TAG)
+    @Parameter(name = X_VERSION, in = ParameterIn.HEADER, example = VERSION_2_EXAMPLE)
+    @ApiResponse(responseCode = "200", description = "JobOffers found")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or unknown attributes in fields")
+    @ApiResponse(responseCode = "404", description = "JobOffers not found")
+    @ApiResponse(responseCode = "503", description = OVERLOADED)
+    WindowModel<JobOfferWithoutApplications> getByCompanyWindow(
+        @PathVariable final String company,
+        @RequestParam(CURSOR_PARAM) final String cursor,
+        @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) final int size,
+        @RequestParam(defaultValue = DEFAULT_COUNT) final boolean count,
+        @RequestParam(name = DETAILS_PARAM, defaultValue = DEFAULT_DETAILS) final boolean details,
+        @RequestParam(FIELDS_PARAM) @Nullable final String fields
+    ) {
+        getLogger().debug(
+            "getByCompanyWindow: company={}, cursor={}, size={}, count={}, details={}, fields={}",
+            company, cursor, size, count, details, fields
+        );
+        final var position = ScrollCursor.decode(cursor, COMPANY_SORT);
+        final var windowSize = Math.clamp(size, 1, MAX_WINDOW_SIZE);
+        final var selectedFields = toFields(fields, details);
+        final var window = limiter.call(
+            () -> service.findSummariesByCompany(company, position, windowSize, selectedFields)
+        );
+        final var total = count ? limiter.call(() -> service.countByCompany(company)) : null;
+        return toWindowModel(window, selectedFields, total);
+    }
+
+    /// JobOffers mit Query-Parametern suchen. Es werden nur die Spalten für die Auflistung gelesen; die Aufgaben und
+    /// Anforderungen der Stellenbeschreibung nur mit `details=true`.
+    ///
+    /// @param queryparam Query-Parameter als MultiValueMap
+    /// @param page Nummer der Seite
+    /// @param size Anzahl der JobOffers je Seite
+    /// @param details `true`, falls auch Aufgaben und Anforderungen geliefert werden sollen
+    /// @param fields Kommaseparierte Liste der zu liefernden Attribute, z.B. `company,title`; hat Vorrang vor
+    ///        `details`
+    /// @return Seite mit den gefundenen JobOffers
+    @GetMapping(produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE}, version = VERSION_2)
     @Operation(summary = "Suche mit Query-Parameter", tags = SEARCH_TAG)
     @Parameter(name = X_VERSION, in = ParameterIn.HEADER, example = VERSION_2_EXAMPLE)
     @ApiResponse(responseCode = "200", description = "JobOffers found")
+    @ApiResponse(responseCode = "400", description = "Unknown attributes in fields")
     @ApiResponse(responseCode = "404", description = "JobOffers not found")
+    @ApiResponse(responseCode = "503", description = OVERLOADED)
     PagedModel<JobOfferWithoutApplications> get(
         @RequestParam final MultiValueMap<String, String> queryparam,
         @RequestParam(defaultValue = DEFAULT_PAGE) final int page,
-        @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) final int size
+        @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) final int size,
+        @RequestParam(name = DETAILS_PARAM, defaultValue = DEFAULT_DETAILS) final boolean details,
+        @RequestParam(FIELDS_PARAM) @Nullable final String fields
     ) {
-        getLogger().debug("get: queryparam={}, page={}, size={}", queryparam, page, size);
+        getLogger().debug(
+            "get: queryparam={}, page={}, size={}, details={}, fields={}", queryparam, page, size, details, fields
+        );
         queryparam.remove("page");
         queryparam.remove("size");
+        queryparam.remove(DETAILS_PARAM);
+        queryparam.remove(FIELDS_PARAM);
         getLogger().trace("get: queryparam={}", queryparam);
         final var pageRequest = PageRequest.of(page, size);
-        final var jobOfferPage = service.find(queryparam, pageRequest).map(JobOfferWithoutApplications::of);
+        final var selectedFields = toFields(fields, details);
+        final var jobOfferPage = limiter.call(() -> service.findSummaries(queryparam, pageRequest, selectedFields))
+            .map(JobOfferWithoutApplications::of);
         getLogger().debug("get: {}, {}", jobOfferPage, jobOfferPage.getContent());
         return new PagedModel<>(jobOfferPage);
     }
 
+    /// JobOffers mit Query-Parametern und Keyset-Pagination suchen, falls der Query-Parameter `cursor` angegeben ist.
+    /// Ein leerer Cursor liefert das erste Fenster. Die Gesamtanzahl wird nur mit `count=true` ermittelt.
+    ///
+    /// @param queryparam Query-Parameter als MultiValueMap
+    /// @param cursor Opakes Cursor-Token aus `next` der vorherigen Response
+    /// @param size Maximale Anzahl an Datensätzen im Fenster, höchstens 100
+    /// @param count `true`, falls zusätzlich die Gesamtanzahl ermittelt werden soll
+    /// @param details `true`, falls auch Aufgaben und Anforderungen geliefert werden sollen
+    /// @param fields Kommaseparierte Liste der zu liefernden Attribute, z.B. `company,title`; hat Vorrang vor
+    ///        `details`
+    /// @return Fenster mit den gefundenen JobOffers
+    @GetMapping(
+        params = CURSOR_PARAM,
+        produces = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE},
+        version = VERSION_2
+    )
+    @Operation(summary = "Suche mit Query-Parameter und Keyset-Pagination", tags = SEARCH_TAG)
+    @Parameter(name = X_VERSION, in = ParameterIn.HEADER, example = VERSION_2_EXAMPLE)
+    @ApiResponse(responseCode = "200", description = "JobOffers found")
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or unknown attributes in fields")
+    @ApiResponse(responseCode = "404", description = "JobOffers not found")
+    @ApiResponse(responseCode = "503", description = OVERLOADED)
+    WindowModel<JobOfferWithoutApplications> getWindow(
+        @RequestParam final MultiValueMap<String, String> queryparam,
+        @RequestParam(CURSOR_PARAM) final String cursor,
+        @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) final int size,
+        @RequestParam(defaultValue = DEFAULT_COUNT) final boolean count,
+        @RequestParam(name = DETAILS_PARAM, defaultValue = DEFAULT_DETAILS) final boolean details,
+        @RequestParam(FIELDS_PARAM) @Nullable final String fields
+    ) {
+        getLogger().debug(
+            "getWindow: queryparam={}, cursor={}, size={}, count={}, details={}, fields={}",
+            queryparam, cursor, size, count, details, fields
+        );
+        // Parameter fuer Pagination und Format sind keine Suchkriterien, auch nicht page beim Wechsel zu Fenstern
+        queryparam.remove(CURSOR_PARAM);
+        queryparam.remove("size");
+        queryparam.remove("count");
+        queryparam.remove("page");
+        queryparam.remove(DETAILS_PARAM);
+        queryparam.remove(FIELDS_PARAM);
+        final var position = ScrollCursor.decode(cursor, SEARCH_SORT);
+        final var windowSize = Math.clamp(size, 1, MAX_WINDOW_SIZE);
+        final var selectedFields = toFields(fields, details);
+        final var window = limiter.call(() -> service.findSummaries(queryparam, position, windowSize, selectedFields));
+        final var total = count ? limiter.call(() -> service.count(queryparam)) : null;
+        return toWindowModel(window, selectedFields, total);
+    }
+
+    // Die Attribute der Sortierung werden fuer den Cursor immer gelesen, aber nur mit fields ausgeliefert
+    private WindowModel<JobOfferWithoutApplications> toWindowModel(
+        final Window<JobOfferSummary> window,
+        final Set<JobOfferField> fields,
+        @Nullable final Long total
+    ) {
+        final var content = window.map(summary -> JobOfferWithoutApplications.of(summary).narrow(fields)).getContent();
+        final var next = window.hasNext() && !window.isEmpty()
+            && window.positionAt(window.size() - 1) instanceof KeysetScrollPosition position
+            ? ScrollCursor.encode(position)
+            : null;
+        getLogger().debug("toWindowModel: size={}, next={}, total={}", content.size(), next, total);
+        return new WindowModel<>(content, next, total);
+    }
+
+    /// Alle JobOffers ohne Bewerbungen als NDJSON exportieren, d.h. ein JSON-Objekt je Zeile. Jedes JobOffer wird
+    /// in den Response-Body geschrieben, sobald es aus der DB gelesen ist, so dass auch Millionen von JobOffers
+    /// mit konstantem Speicherbedarf exportiert werden.
+    ///
+    /// @param response Servlet-Response, in deren Body geschrieben wird
+    /// @throws IOException falls nicht in den Response-Body geschrieben werden kann
+    @GetMapping(path = EXPORT_PATH, produces = APPLICATION_NDJSON_VALUE, version = VERSION_2)
+    @RolleAdmin
+    @Operation(summary = "Alle JobOffers als NDJSON exportieren", tags = SEARCH_TAG)
+    @Parameter(name = X_VERSION, in = ParameterIn.HEADER, example = VERSION_2_EXAMPLE)
+    @ApiResponse(responseCode = "200", description = "JobOffers exportiert")
+    void export(final HttpServletResponse response) throws IOException {
+        getLogger().debug("export");
+        response.setContentType(APPLICATION_NDJSON_VALUE);
+        // NDJSON erfordert genau eine Zeile je JSON-Objekt, auch im Profile dev mit indent-output
+        final var writer = jsonMapper.writerFor(JobOfferWithoutApplications.class).without(INDENT_OUTPUT);
+        final var out = response.getOutputStream();
+        final var count = exportService.export(jobOffer -> {
+            try {
+                out.write(writer.writeValueAsBytes(JobOfferWithoutApplications.of(jobOffer)));
+                out.write('\n');
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        });
+        out.flush();
+        getLogger().debug("export: {} JobOffers", count);
+    }
+
+    /// Die zu lesenden Attribute für eine Auflistung ermitteln.
+    ///
+    /// @param fields Wert des Query-Parameters `fields` oder `null`
+    /// @param details `true`, falls ohne `fields` auch Aufgaben und Anforderungen gelesen werden sollen
+    /// @return Zu lesende Attribute
+    private static Set<JobOfferField> toFields(@Nullable final String fields, final boolean details) {
+        final var selectedFields = parseFields(fields);
+        if (selectedFields != null) {
+            return selectedFields;
+        }
+        return details ? JobOfferField.ALL : JobOfferField.DEFAULT;
+    }
+
+    /// Den Query-Parameter `fields` als kommaseparierte Liste von Attributen auswerten.
+    ///
+    /// @param fields Wert des Query-Parameters `fields` oder `null`
+    /// @return Ausgewählte Attribute oder `null`, falls keine Attribute angegeben sind
+    /// @throws InvalidFieldsException falls ein Attribut unbekannt ist
+    @Nullable
+    private static Set<JobOfferField> parseFields(@Nullable final String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        final var selectedFields = EnumSet.noneOf(JobOfferField.class);
+        for (final var name : fields.split(",")) {
+            final var field = JobOfferField.of(name.strip());
+            if (field == null) {
+                throw new InvalidFieldsException(fields);
+            }
+            selectedFields.add(field);
+        }
+        return selectedFields;
+    }
+
+    private static String toETag(final int version) {
+        return "\"" + version + '"';
+    }
+
+    private static String toETag(final int version, final int applicationCount) {
+        return "\"" + version + '-' + applicationCount + '"';
+    }
+
     private Logger getLogger() {
         return logger.orElseSet(() -> LoggerFactory.getLogger(JobOfferController.class));
     }
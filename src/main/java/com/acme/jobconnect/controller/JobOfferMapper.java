@@ -35,5 +35,6 @@ interface JobOfferMapper {
     /// @param dto DTO-Objet for `ApplicationDTO`
     /// @return Converted `Application-Object`
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "jobOffer", ignore = true)
     Application toApplication(ApplicationDTO dto);
 }
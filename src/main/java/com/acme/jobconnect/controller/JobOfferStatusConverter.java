@@ -0,0 +1,17 @@
+package com.acme.jobconnect.controller;
+
+import com.acme.jobconnect.entity.JobOfferStatus;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+/// Konvertierung von Query-Parametern wie bei `DELETE /api?status=CLOSED` mit [JobOfferStatus#of(String)] statt
+/// mit `valueOf()`, damit ein Status in Query-Parametern und in JSON-Datensätzen dieselbe Form haben kann.
+/// Bei einem ungültigen Status fehlt der Parameter und der Statuscode ist 400.
+@Component
+class JobOfferStatusConverter implements Converter<String, JobOfferStatus> {
+    @Override
+    public @Nullable JobOfferStatus convert(final String source) {
+        return JobOfferStatus.of(source);
+    }
+}
@@ -1,24 +1,58 @@
 package com.acme.jobconnect.controller;
 
-import com.acme.jobconnect.entity.JobDescription;
 import com.acme.jobconnect.entity.JobOffer;
 import com.acme.jobconnect.entity.JobOfferStatus;
+import com.acme.jobconnect.repository.JobDescriptionSummary;
+import com.acme.jobconnect.repository.JobOfferField;
+import com.acme.jobconnect.repository.JobOfferSummary;
 import java.time.LocalDate;
+import java.util.Set;
 import java.util.UUID;
+import org.jspecify.annotations.Nullable;
+import static com.acme.jobconnect.repository.JobOfferField.COMPANY;
+import static com.acme.jobconnect.repository.JobOfferField.EXPIRATIONDATE;
+import static com.acme.jobconnect.repository.JobOfferField.PUBLICATIONDATE;
+import static com.acme.jobconnect.repository.JobOfferField.STATUS;
+import static com.acme.jobconnect.repository.JobOfferField.VIEWSCOUNT;
 
 /// ValueObject für eine gefundenen JobOffer ohne nicht-mitgeladene Applications, d.h. nicht-serialisierbares Proxy-Objekt.
+/// Bei einer Auswahl mit `fields` sind die nicht ausgewählten Attribute `null` und fehlen im JSON-Datensatz.
 @SuppressWarnings("RecordComponentNumber")
 public record JobOfferWithoutApplications(
     UUID id,
-    String company,
-    LocalDate publicationdate,
-    LocalDate expirationdate,
-    int viewscount,
-    JobOfferStatus status,
-    JobDescription description
+    @Nullable String company,
+    @Nullable LocalDate publicationdate,
+    @Nullable LocalDate expirationdate,
+    @Nullable Integer viewscount,
+    @Nullable JobOfferStatus status,
+    @Nullable JobDescriptionSummary description
 ) {
     static JobOfferWithoutApplications of(final JobOffer jobOffer) {
         return new JobOfferWithoutApplications(jobOffer.getId(), jobOffer.getCompany(), jobOffer.getPublicationdate(), jobOffer.getExpirationdate(),
-            jobOffer.getViewscount(), jobOffer.getStatus(), jobOffer.getDescription());
+            jobOffer.getViewscount(), jobOffer.getStatus(), JobDescriptionSummary.of(jobOffer.getDescription()));
+    }
+
+    static JobOfferWithoutApplications of(final JobOfferSummary summary) {
+        return new JobOfferWithoutApplications(summary.id(), summary.company(), summary.publicationdate(), summary.expirationdate(),
+            summary.viewscount(), summary.status(), summary.description());
+    }
+
+    /// Eine Kopie mit den ausgewählten Attributen erstellen; die übrigen Attribute außer der ID sind `null`.
+    ///
+    /// @param fields Ausgewählte Attribute
+    /// @return Kopie mit den ausgewählten Attributen
+    JobOfferWithoutApplications narrow(final Set<JobOfferField> fields) {
+        final var narrowedDescription = description == null || fields.stream().noneMatch(JobOfferField::isDescription)
+            ? null
+            : description.narrow(fields);
+        return new JobOfferWithoutApplications(
+            id,
+            fields.contains(COMPANY) ? company : null,
+            fields.contains(PUBLICATIONDATE) ? publicationdate : null,
+            fields.contains(EXPIRATIONDATE) ? expirationdate : null,
+            fields.contains(VIEWSCOUNT) ? viewscount : null,
+            fields.contains(STATUS) ? status : null,
+            narrowedDescription
+        );
     }
 }
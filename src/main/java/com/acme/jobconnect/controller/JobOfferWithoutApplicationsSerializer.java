@@ -0,0 +1,143 @@
+package com.acme.jobconnect.controller;
+
+import com.acme.jobconnect.entity.EmploymentType;
+import com.acme.jobconnect.entity.JobOfferStatus;
+import com.acme.jobconnect.repository.JobDescriptionSummary;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+import org.jspecify.annotations.Nullable;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.SerializableString;
+import tools.jackson.core.io.SerializedString;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ser.std.StdSerializer;
+
+/// Serializer für [JobOfferWithoutApplications], der die Attribute direkt mit dem `JsonGenerator` schreibt, statt
+/// die Record-Komponenten reflektiv zu ermitteln.
+///
+/// Die Attributnamen sind als [SerializedString] vorab kodiert und die Werte von [JobOfferStatus] und
+/// [EmploymentType] werden je Enum-Wert zwischengespeichert. `null`-Werte werden wie bei
+/// `spring.jackson.default-property-inclusion: non_null` ausgelassen, so dass auch eine Auswahl mit `fields`
+/// unverändert funktioniert. Die Reihenfolge der Attribute entspricht der Reihenfolge der Record-Komponenten.
+public class JobOfferWithoutApplicationsSerializer extends StdSerializer<JobOfferWithoutApplications> {
+    private static final SerializableString ID = new SerializedString("id");
+    private static final SerializableString COMPANY = new SerializedString("company");
+    private static final SerializableString PUBLICATIONDATE = new SerializedString("publicationdate");
+    private static final SerializableString EXPIRATIONDATE = new SerializedString("expirationdate");
+    private static final SerializableString VIEWSCOUNT = new SerializedString("viewscount");
+    private static final SerializableString STATUS = new SerializedString("status");
+    private static final SerializableString DESCRIPTION = new SerializedString("description");
+    private static final SerializableString TITLE = new SerializedString("title");
+    private static final SerializableString LOCATION = new SerializedString("location");
+    private static final SerializableString SALARY = new SerializedString("salary");
+    private static final SerializableString SUMMARY = new SerializedString("summary");
+    private static final SerializableString EMPLOYMENT = new SerializedString("employment");
+    private static final SerializableString RESPONSIBILITIES = new SerializedString("responsibilities");
+    private static final SerializableString REQUIREMENTS = new SerializedString("requirements");
+
+    private static final Map<JobOfferStatus, SerializableString> STATUS_VALUES =
+        toSerializedStrings(JobOfferStatus.class, JobOfferStatus::getValue);
+    private static final Map<EmploymentType, SerializableString> EMPLOYMENT_VALUES =
+        toSerializedStrings(EmploymentType.class, EmploymentType::getValue);
+
+    /// Konstruktor für die Registrierung in einem `JacksonModule`.
+    public JobOfferWithoutApplicationsSerializer() {
+        super(JobOfferWithoutApplications.class);
+    }
+
+    @Override
+    public void serialize(
+        final JobOfferWithoutApplications jobOffer,
+        final JsonGenerator generator,
+        final SerializationContext context
+    ) {
+        generator.writeStartObject(jobOffer);
+        generator.writeName(ID);
+        generator.writeString(jobOffer.id().toString());
+        writeString(generator, COMPANY, jobOffer.company());
+        writeDate(generator, PUBLICATIONDATE, jobOffer.publicationdate());
+        writeDate(generator, EXPIRATIONDATE, jobOffer.expirationdate());
+        final var viewscount = jobOffer.viewscount();
+        if (viewscount != null) {
+            generator.writeName(VIEWSCOUNT);
+            generator.writeNumber(viewscount);
+        }
+        final var status = jobOffer.status();
+        if (status != null) {
+            generator.writeName(STATUS);
+            generator.writeString(STATUS_VALUES.get(status));
+        }
+        final var description = jobOffer.description();
+        if (description != null) {
+            generator.writeName(DESCRIPTION);
+            writeDescription(generator, description);
+        }
+        generator.writeEndObject();
+    }
+
+    private static void writeDescription(final JsonGenerator generator, final JobDescriptionSummary description) {
+        generator.writeStartObject(description);
+        generator.writeName(ID);
+        generator.writeString(description.id().toString());
+        writeString(generator, TITLE, description.title());
+        writeString(generator, LOCATION, description.location());
+        writeNumber(generator, SALARY, description.salary());
+        writeString(generator, SUMMARY, description.summary());
+        final var employment = description.employment();
+        if (employment != null) {
+            generator.writeName(EMPLOYMENT);
+            generator.writeString(EMPLOYMENT_VALUES.get(employment));
+        }
+        writeString(generator, RESPONSIBILITIES, description.responsibilities());
+        writeString(generator, REQUIREMENTS, description.requirements());
+        generator.writeEndObject();
+    }
+
+    private static void writeString(
+        final JsonGenerator generator,
+        final SerializableString name,
+        @Nullable final String value
+    ) {
+        if (value != null) {
+            generator.writeName(name);
+            generator.writeString(value);
+        }
+    }
+
+    private static void writeDate(
+        final JsonGenerator generator,
+        final SerializableString name,
+        @Nullable final LocalDate value
+    ) {
+        if (value != null) {
+            // ISO 8601 wie bei Jackson ohne WRITE_DATES_AS_TIMESTAMPS, d.h. z.B. 2026-05-01
+            generator.writeName(name);
+            generator.writeString(value.toString());
+        }
+    }
+
+    private static void writeNumber(
+        final JsonGenerator generator,
+        final SerializableString name,
+        @Nullable final BigDecimal value
+    ) {
+        if (value != null) {
+            generator.writeName(name);
+            generator.writeNumber(value);
+        }
+    }
+
+    private static <E extends Enum<E>> Map<E, SerializableString> toSerializedStrings(
+        final Class<E> enumClass,
+        final Function<E, String> value
+    ) {
+        final var values = new EnumMap<E, SerializableString>(enumClass);
+        for (final var constant : enumClass.getEnumConstants()) {
+            values.put(constant, new SerializedString(value.apply(constant)));
+        }
+        return values;
+    }
+}
@@ -1,46 +1,59 @@
 package com.acme.jobconnect.controller;
 
+import com.acme.jobconnect.entity.JobOfferStatus;
+import com.acme.jobconnect.repository.JobOfferUpdateRepository;
 import com.acme.jobconnect.security.RolleAdmin;
+import com.acme.jobconnect.service.ConcurrencyLimiter;
 import com.acme.jobconnect.service.JobOfferWriteService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Validator;
 import jakarta.validation.groups.Default;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
-import org.springframework.web.ErrorResponse;
-import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.DeleteMapping;
-import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
 import static com.acme.jobconnect.controller.Constants.API_PATH;
 import static com.acme.jobconnect.controller.Constants.CREATE_TAG;
 import static com.acme.jobconnect.controller.Constants.ID_PATTERN;
+import static com.acme.jobconnect.controller.Constants.MERGE_PATCH_JSON_VALUE;
+import static com.acme.jobconnect.controller.Constants.OVERLOADED;
 import static com.acme.jobconnect.controller.Constants.UPDATE_TAG;
 import static com.acme.jobconnect.controller.Constants.VERSION_2;
 import static com.acme.jobconnect.controller.Constants.VERSION_2_EXAMPLE;
 import static com.acme.jobconnect.controller.Constants.X_VERSION;
-import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.format.annotation.DateTimeFormat.ISO.DATE;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
 import static org.springframework.http.HttpStatus.PRECONDITION_REQUIRED;
-import static org.springframework.http.HttpStatus.UNPROCESSABLE_CONTENT;
+import static org.springframework.http.MediaType.APPLICATION_CBOR_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.ResponseEntity.created;
 import static org.springframework.http.ResponseEntity.noContent;
@@ -51,23 +64,47 @@ import static org.springframework.http.ResponseEntity.noContent;
 class JobOfferWriteController {
     private static final String VERSIONSNUMMER_FEHLT = "Versionsnummer fehlt";
 
+    /// Änderbare Attribute bei einem _JSON Merge Patch_ mit ihrem Typ, siehe
+    /// [JobOfferUpdateRepository#PATCHABLE_COLUMNS].
+    private static final Map<String, Class<?>> PATCHABLE = Map.of(
+        "company", String.class,
+        "publicationdate", LocalDate.class,
+        "expirationdate", LocalDate.class,
+        "status", JobOfferStatus.class
+    );
+
     private final JobOfferWriteService service;
+    private final ConcurrencyLimiter limiter;
     private final JobOfferMapper mapper;
     private final UriHelper uriHelper;
+    private final Validator validator;
+    private final JsonMapper jsonMapper;
     private final StableValue<Logger> logger = StableValue.of();
 
-    JobOfferWriteController(final JobOfferWriteService service, final JobOfferMapper mapper, final UriHelper uriHelper) {
+    JobOfferWriteController(
+        final JobOfferWriteService service,
+        final ConcurrencyLimiter limiter,
+        final JobOfferMapper mapper,
+        final UriHelper uriHelper,
+        final Validator validator,
+        final JsonMapper jsonMapper
+    ) {
         this.service = service;
+        this.limiter = limiter;
         this.mapper = mapper;
         this.uriHelper = uriHelper;
+        this.validator = validator;
+        this.jsonMapper = jsonMapper;
     }
 
-    @PostMapping(consumes = APPLICATION_JSON_VALUE, version = VERSION_2)
+    @PostMapping(consumes = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE}, version = VERSION_2)
     @Operation(summary = "Eine neue JobOffer anlegen", tags = CREATE_TAG)
     @Parameter(name = X_VERSION, in = ParameterIn.HEADER, example = VERSION_2_EXAMPLE)
     @ApiResponse(responseCode = "201", description = "JobOffer neu angelegt")
     @ApiResponse(responseCode = "400", description = "Syntaktische Fehler im Request-Body")
+    @ApiResponse(responseCode = "409", description = "JobOffer der Firma mit demselben Titel vorhanden")
     @ApiResponse(responseCode = "422", description = "Ungültige Werte")
+    @ApiResponse(responseCode = "503", description = OVERLOADED)
     @SuppressWarnings("TrailingComment")
     ResponseEntity<Void> post(
         @RequestBody @Validated({Default.class, JobOfferDTO.OnCreate.class}) final JobOfferDTO jobOfferDTO,
@@ -76,7 +113,7 @@ class JobOfferWriteController {
         getLogger().debug("post: jobOfferDTO={}", jobOfferDTO);
 
         final var jobOfferInput = mapper.toJobOffer(jobOfferDTO);
-        final var jobOffer = service.create(jobOfferInput);
+        final var jobOffer = limiter.callUnsampled(() -> service.create(jobOfferInput));
         final var baseUri = uriHelper.getBaseUri(request);
         final var location = new URI(baseUri.toString() + '/' + jobOffer.getId());
         return created(location).build();
@@ -90,15 +127,21 @@ class JobOfferWriteController {
     /// @return Response mit Statuscode 204 oder Statuscode 400, falls der JSON-Datensatz syntaktisch nicht korrekt ist
     ///      oder 422 falls Constraints verletzt sind
     ///      oder 412 falls die Versionsnummer nicht ok ist oder 428 falls die Versionsnummer fehlt.
-    @PutMapping(path = "{id:" + ID_PATTERN + "}", consumes = APPLICATION_JSON_VALUE, version = VERSION_2)
+    @PutMapping(
+        path = "{id:" + ID_PATTERN + "}",
+        consumes = {APPLICATION_JSON_VALUE, APPLICATION_CBOR_VALUE},
+        version = VERSION_2
+    )
     @Operation(summary = "Einen Kunden mit neuen Werten aktualisieren", tags = UPDATE_TAG)
     @Parameter(name = X_VERSION, in = ParameterIn.HEADER, example = VERSION_2_EXAMPLE)
     @ApiResponse(responseCode = "204", description = "Aktualisiert")
     @ApiResponse(responseCode = "400", description = "Syntaktische Fehler im Request-Body")
     @ApiResponse(responseCode = "404", description = "JobOffer nicht vorhanden")
+    @ApiResponse(responseCode = "409", description = "JobOffer der Firma mit demselben Titel vorhanden")
     @ApiResponse(responseCode = "412", description = "Versionsnummer falsch")
     @ApiResponse(responseCode = "422", description = "Ungültige Werte")
     @ApiResponse(responseCode = "428", description = VERSIONSNUMMER_FEHLT)
+    @ApiResponse(responseCode = "503", description = OVERLOADED)
     ResponseEntity<Void> put(
         @PathVariable final UUID id,
         @RequestBody @Validated final JobOfferDTO jobOfferDTO,
@@ -107,9 +150,43 @@ class JobOfferWriteController {
         getLogger().debug("put: id={}, kundeDTO={}, ifMatch={}", id, jobOfferDTO, ifMatch);
         final int version = getVersion(ifMatch);
         final var jobOfferInput = mapper.toJobOffer(jobOfferDTO);
-        final var jobOffer = service.update(jobOfferInput, id, version);
-        getLogger().debug("put: {}", jobOffer);
-        return noContent().eTag("\"" + jobOffer.getVersion() + '"').build();
+        final int newVersion = limiter.callUnsampled(() -> service.update(jobOfferInput, id, version));
+        getLogger().debug("put: newVersion={}", newVersion);
+        return noContent().eTag("\"" + newVersion + '"').build();
+    }
+
+    /// Einzelne Attribute eines vorhandenen JobOffers mit einem _JSON Merge Patch_ gemäß _RFC 7396_ ändern, z.B.
+    /// `{"status": "ACTIVE"}`. Nur die enthaltenen Attribute werden validiert und per `UPDATE` geschrieben. Der Status
+    /// kann wie bei [JobOfferStatus#of(String)] als Name oder als interner Wert übergeben werden.
+    ///
+    /// @param id ID des zu aktualisierenden JobOffer.
+    /// @param patch Die zu ändernden Attribute aus dem Request-Body.
+    /// @param ifMatch Versionsnummer aus dem Header If-Match
+    /// @return Response mit Statuscode 204 oder Statuscode 400, falls der JSON-Datensatz syntaktisch nicht korrekt ist
+    ///      oder 422 falls Attribute nicht änderbar oder Constraints verletzt sind
+    ///      oder 412 falls die Versionsnummer nicht ok ist oder 428 falls die Versionsnummer fehlt.
+    @PatchMapping(path = "{id:" + ID_PATTERN + "}", consumes = MERGE_PATCH_JSON_VALUE, version = VERSION_2)
+    @Operation(summary = "Einzelne Attribute eines JobOffers ändern", tags = UPDATE_TAG)
+    @Parameter(name = X_VERSION, in = ParameterIn.HEADER, example = VERSION_2_EXAMPLE)
+    @ApiResponse(responseCode = "204", description = "Aktualisiert")
+    @ApiResponse(responseCode = "400", description = "Syntaktische Fehler im Request-Body")
+    @ApiResponse(responseCode = "404", description = "JobOffer nicht vorhanden")
+    @ApiResponse(responseCode = "409", description = "JobOffer der Firma mit demselben Titel vorhanden")
+    @ApiResponse(responseCode = "412", description = "Versionsnummer falsch")
+    @ApiResponse(responseCode = "422", description = "Nicht änderbare Attribute oder ungültige Werte")
+    @ApiResponse(responseCode = "428", description = VERSIONSNUMMER_FEHLT)
+    @ApiResponse(responseCode = "503", description = OVERLOADED)
+    ResponseEntity<Void> patch(
+        @PathVariable final UUID id,
+        @RequestBody final ObjectNode patch,
+        @RequestHeader("If-Match") @Nullable final String ifMatch
+    ) {
+        getLogger().debug("patch: id={}, patch={}, ifMatch={}", id, patch, ifMatch);
+        final int version = getVersion(ifMatch);
+        final var columns = toColumns(patch);
+        final int newVersion = limiter.callUnsampled(() -> service.patch(columns, id, version));
+        getLogger().debug("patch: newVersion={}", newVersion);
+        return noContent().eTag("\"" + newVersion + '"').build();
     }
 
     /// Einen vorhandenen JobOffer anhand seiner ID löschen.
@@ -121,13 +198,36 @@ class JobOfferWriteController {
     @Operation(summary = "Eine JobOffer anhand der ID loeschen", tags = "Loeschen")
     @Parameter(name = X_VERSION, in = ParameterIn.HEADER, example = VERSION_2_EXAMPLE)
     @ApiResponse(responseCode = "204", description = "Gelöscht")
+    @ApiResponse(responseCode = "503", description = OVERLOADED)
     void deleteById(@PathVariable final UUID id)  {
         getLogger().debug("deleteById: id={}", id);
-        service.deleteById(id);
+        limiter.runUnsampled(() -> service.deleteById(id));
+    }
+
+    /// Alle JobOffers mit einem Status löschen, die vor einem Datum abgelaufen sind, z.B.
+    /// `DELETE /api?status=CLOSED&expiredBefore=2026-01-01` beim Aufräumen.
+    ///
+    /// @param status Status der zu löschenden JobOffers, wie im JSON-Datensatz als Name oder als interner Wert
+    /// @param expiredBefore Die JobOffers müssen vor diesem Datum abgelaufen sein
+    @DeleteMapping(version = VERSION_2)
+    @RolleAdmin
+    @ResponseStatus(NO_CONTENT)
+    @Operation(summary = "Abgelaufene JobOffers mit einem Status loeschen", tags = "Loeschen")
+    @Parameter(name = X_VERSION, in = ParameterIn.HEADER, example = VERSION_2_EXAMPLE)
+    @ApiResponse(responseCode = "204", description = "Gelöscht")
+    @ApiResponse(responseCode = "400", description = "Status oder Datum fehlt oder ist ungültig")
+    @ApiResponse(responseCode = "503", description = OVERLOADED)
+    void deleteExpired(
+        @RequestParam final JobOfferStatus status,
+        @RequestParam @DateTimeFormat(iso = DATE) final LocalDate expiredBefore
+    ) {
+        getLogger().debug("deleteExpired: status={}, expiredBefore={}", status, expiredBefore);
+        final int count = limiter.callUnsampled(() -> service.deleteExpired(status, expiredBefore));
+        getLogger().debug("deleteExpired: count={}", count);
     }
 
     @SuppressWarnings({"MagicNumber", "RedundantSuppression"})
-    private int getVersion(@Nullable final String versionStr) {
+    int getVersion(@Nullable final String versionStr) {
         getLogger().trace("getVersion: {}", versionStr);
         if (versionStr == null) {
             throw new VersionInvalidException(PRECONDITION_REQUIRED, VERSIONSNUMMER_FEHLT);
@@ -149,28 +249,39 @@ class JobOfferWriteController {
         return version;
     }
 
-    /// [ExceptionHandler] für [MethodArgumentNotValidException]
-    ///
-    /// @param ex Exception für Fehler im Request-Body bei `POST` oder `PUT` gemäß _Jakarta Validation_.
-    /// @return ErrorResponse mit `ProblemDetail` gemäß _RFC 9457_.
-    @ExceptionHandler
-    ErrorResponse onConstraintViolations(final MethodArgumentNotValidException ex) {
-        final var detailMessages = ex.getDetailMessageArguments();
-        final var detail = detailMessages.length == 0 || detailMessages[1] == null
-            ? "Constraint Violation"
-            : ((String) detailMessages[1]).replace(", and ", ", ");
-        return ErrorResponse.create(ex, UNPROCESSABLE_CONTENT, detail);
-    }
+    // Jedes Attribut einzeln konvertieren und nur mit den Constraints des zugehoerigen Attributs von JobOfferDTO
+    // validieren. null bedeutet bei RFC 7396 Entfernen, was bei den Spalten mit NOT NULL nicht moeglich ist.
+    private Map<String, Object> toColumns(final ObjectNode patch) {
+        final var columns = new LinkedHashMap<String, Object>();
+        final var errors = new ArrayList<String>();
+        patch.properties().forEach(property -> {
+            final var name = property.getKey();
+            final var type = PATCHABLE.get(name);
+            if (type == null) {
+                errors.add(name + ": nicht aenderbar");
+                return;
+            }
+            if (property.getValue().isNull()) {
+                errors.add(name + ": kann nicht entfernt werden");
+                return;
+            }
 
-    /// [ExceptionHandler] für [HttpMessageNotReadableException]
-    ///
-    /// @param ex Exception für den syntaktisch falschen Request-Body bei `POST` oder `PUT`.
-    /// @return ErrorResponse mit `ProblemDetail` gemäß _RFC 9457_.
-    @ExceptionHandler
-    ErrorResponse onMessageNotReadable(final HttpMessageNotReadableException ex) {
-        final var msg = ex.getMessage() == null ? "N/A" : ex.getMessage();
-        getLogger().debug("onMessageNotReadable: {}", msg);
-        return ErrorResponse.create(ex, BAD_REQUEST, msg);
+            final Object value;
+            try {
+                value = jsonMapper.treeToValue(property.getValue(), type);
+            } catch (final JacksonException ex) {
+                errors.add(name + ": " + ex.getOriginalMessage());
+                return;
+            }
+            validator.validateValue(JobOfferDTO.class, name, value, Default.class)
+                .forEach(violation -> errors.add(name + ": " + violation.getMessage()));
+            columns.put(name, value);
+        });
+
+        if (!errors.isEmpty()) {
+            throw new InvalidPatchException(errors.stream().sorted().collect(Collectors.joining(", ")));
+        }
+        return columns;
     }
 
     private Logger getLogger() {
@@ -0,0 +1,19 @@
+package com.acme.jobconnect.controller;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/// Spring-Konfiguration für Properties `app.page-cache.*`.
+///
+/// @param ttl Maximale Lebensdauer einer zwischengespeicherten Seite, z.B. für geänderte Aufrufzähler
+/// @param maximumSize Maximale Anzahl an zwischengespeicherten Seiten
+@ConfigurationProperties("app.page-cache")
+public record PageCacheConfig(
+    @DefaultValue("PT10S")
+    Duration ttl,
+
+    @DefaultValue("1000")
+    long maximumSize
+) {
+}
@@ -0,0 +1,149 @@
+package com.acme.jobconnect.controller;
+
+import com.acme.jobconnect.service.JobOffersChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import static com.acme.jobconnect.controller.Constants.API_PATH;
+import static com.acme.jobconnect.controller.Constants.COMPANY_PATH;
+import static com.acme.jobconnect.controller.Constants.X_VERSION;
+import static org.springframework.http.HttpHeaders.ACCEPT;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpMethod.GET;
+
+/// Servlet-Filter für bedingte GET-Requests und einen kurzlebigen Cache der Suchergebnisse bei `GET /api` und
+/// `GET /api/company/{company}`.
+///
+/// Der ETag ist ein Hashwert über den serialisierten Response-Body, d.h. ein starker Validator. Body und ETag werden
+/// je normalisierter Query zwischengespeichert, so dass wiederholtes Polling mit `304` oder mit den gespeicherten
+/// Bytes beantwortet wird, ohne die DB abzufragen und ohne erneut zu serialisieren. Nach dem Commit einer Änderung
+/// wird die Generation erhöht, die Teil des Schlüssels ist. Dadurch kann auch eine Seite, die vor dem Commit gelesen
+/// und erst danach gespeichert wurde, nicht mehr gefunden werden. Die Aufrufzähler werden nur über `ttl`
+/// aktualisiert.
+@Component
+public class PageCacheFilter extends OncePerRequestFilter {
+    private static final String SEARCH_PATH = '/' + API_PATH;
+    private static final String COMPANY_SEARCH_PATH = SEARCH_PATH + COMPANY_PATH + '/';
+
+    private final Cache<PageKey, CachedPage> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final StableValue<Logger> logger = StableValue.of();
+
+    PageCacheFilter(final PageCacheConfig config) {
+        cache = Caffeine.newBuilder()
+            .expireAfterWrite(config.ttl())
+            .maximumSize(config.maximumSize())
+            .build();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(final HttpServletRequest request) {
+        if (!GET.matches(request.getMethod())) {
+            return true;
+        }
+        final var path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.equals(SEARCH_PATH) && !path.startsWith(COMPANY_SEARCH_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(
+        final HttpServletRequest request,
+        final HttpServletResponse response,
+        final FilterChain filterChain
+    ) throws ServletException, IOException {
+        final var key = new PageKey(generation.get(), toQuery(request));
+        final var cached = cache.getIfPresent(key);
+        if (cached != null) {
+            getLogger().trace("doFilterInternal: Treffer {}", key);
+            write(cached, request, response);
+            return;
+        }
+
+        final var wrapper = new ContentCachingResponseWrapper(response);
+        filterChain.doFilter(request, wrapper);
+        if (wrapper.getStatus() != HttpServletResponse.SC_OK) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        final var body = wrapper.getContentAsByteArray();
+        final var page = new CachedPage(toETag(body), wrapper.getContentType(), body);
+        cache.put(key, page);
+        getLogger().trace("doFilterInternal: gespeichert {}, eTag={}", key, page.eTag());
+
+        wrapper.setHeader(ETAG, page.eTag());
+        if (new ServletWebRequest(request, response).checkNotModified(page.eTag())) {
+            return;
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    /// Alle zwischengespeicherten Seiten nach dem Commit einer Änderung ungültig machen. Ohne Transaktion, z.B. in
+    /// Tests, wird sofort reagiert.
+    ///
+    /// @param event Event zur Änderung
+    @TransactionalEventListener(fallbackExecution = true)
+    void onJobOffersChanged(final JobOffersChangedEvent event) {
+        final var newGeneration = generation.incrementAndGet();
+        cache.invalidateAll();
+        getLogger().debug("onJobOffersChanged: operation={}, generation={}", event.operation(), newGeneration);
+    }
+
+    private static void write(
+        final CachedPage page,
+        final HttpServletRequest request,
+        final HttpServletResponse response
+    ) throws IOException {
+        response.setHeader(ETAG, page.eTag());
+        if (new ServletWebRequest(request, response).checkNotModified(page.eTag())) {
+            return;
+        }
+        if (page.contentType() != null) {
+            response.setContentType(page.contentType());
+        }
+        response.setContentLength(page.body().length);
+        response.getOutputStream().write(page.body());
+    }
+
+    // Parameter sortiert, damit z.B. ?size=5&page=0 und ?page=0&size=5 denselben Schluessel haben
+    private static String toQuery(final HttpServletRequest request) {
+        final var parameters = new TreeMap<>(request.getParameterMap())
+            .entrySet()
+            .stream()
+            .map(entry -> entry.getKey() + '=' + String.join(",", Arrays.stream(entry.getValue()).sorted().toList()))
+            .collect(Collectors.joining("&"));
+        return request.getRequestURI() + '?' + parameters + '|' + request.getHeader(ACCEPT) + '|'
+            + request.getHeader(X_VERSION);
+    }
+
+    private static String toETag(final byte[] body) {
+        return '"' + DigestUtils.md5DigestAsHex(body) + '"';
+    }
+
+    private Logger getLogger() {
+        return logger.orElseSet(() -> LoggerFactory.getLogger(PageCacheFilter.class));
+    }
+
+    private record PageKey(long generation, String query) {
+    }
+
+    private record CachedPage(String eTag, @Nullable String contentType, byte[] body) {
+    }
+}
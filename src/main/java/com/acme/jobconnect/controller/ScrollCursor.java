@@ -0,0 +1,117 @@
+package com.acme.jobconnect.controller;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/// Opakes Cursor-Token für die Keyset-Pagination: Die Schlüsselwerte einer [KeysetScrollPosition], z.B.
+/// `(company, id)`, `(publicationdate, id)` oder `(date, id)`, werden typisiert und _Base64URL_-kodiert.
+///
+/// Aufbau vor der Kodierung: `key=<Typ><Wert>&key=<Typ><Wert>` mit `s` für String, `u` für UUID und `d` für Datum.
+/// Beim Dekodieren müssen die Schlüssel genau den Attributen der Sortierung entsprechen, weil sie ungeprüft in die
+/// `WHERE`-Klausel übernommen werden.
+final class ScrollCursor {
+    /// Typ der Werte je Schlüssel, damit ein manipuliertes Token z.B. keinen String als Datum enthält.
+    private static final Map<String, Class<?>> KEY_TYPES = Map.of(
+        "id", UUID.class,
+        "company", String.class,
+        "publicationdate", LocalDate.class,
+        "date", LocalDate.class
+    );
+
+    private static final char TYPE_STRING = 's';
+    private static final char TYPE_UUID = 'u';
+    private static final char TYPE_DATE = 'd';
+    private static final String ENTRY_SEPARATOR = "&";
+    private static final char KEY_SEPARATOR = '=';
+
+    private ScrollCursor() {
+    }
+
+    /// Eine Keyset-Position als Cursor-Token kodieren.
+    ///
+    /// @param position Position nach dem letzten Datensatz eines Fensters
+    /// @return Das opake Cursor-Token
+    static String encode(final KeysetScrollPosition position) {
+        final var plain = position.getKeys()
+            .entrySet()
+            .stream()
+            .map(entry -> entry.getKey() + KEY_SEPARATOR + encodeValue(entry.getValue()))
+            .collect(Collectors.joining(ENTRY_SEPARATOR));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(plain.getBytes(UTF_8));
+    }
+
+    /// Ein Cursor-Token dekodieren. Ein leeres Token steht für den Anfang, d.h. das erste Fenster.
+    ///
+    /// @param cursor Das Cursor-Token aus dem Query-Parameter `cursor`
+    /// @param sort Sortierung des Fensters, deren Attribute die Schlüssel des Tokens sein müssen
+    /// @return Position für das nächste Fenster
+    /// @throws InvalidCursorException falls das Token nicht dekodiert werden kann oder nicht zur Sortierung passt
+    static KeysetScrollPosition decode(@Nullable final String cursor, final Sort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        final String plain;
+        try {
+            plain = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+        } catch (final IllegalArgumentException ex) {
+            throw new InvalidCursorException(cursor, ex);
+        }
+
+        final var keys = new LinkedHashMap<String, Object>();
+        for (final var entry : plain.split(ENTRY_SEPARATOR)) {
+            final var separator = entry.indexOf(KEY_SEPARATOR);
+            if (separator < 1 || separator == entry.length() - 1) {
+                throw new InvalidCursorException(cursor);
+            }
+            final var key = entry.substring(0, separator);
+            final var value = decodeValue(entry.substring(separator + 1), cursor);
+            final var type = KEY_TYPES.get(key);
+            if (type == null || !type.isInstance(value) || keys.put(key, value) != null) {
+                throw new InvalidCursorException(cursor);
+            }
+        }
+
+        final var properties = sort.stream().map(Sort.Order::getProperty).toList();
+        if (!List.copyOf(keys.keySet()).equals(properties)) {
+            throw new InvalidCursorException(cursor);
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    private static String encodeValue(final Object value) {
+        final char type = switch (value) {
+            case UUID _ -> TYPE_UUID;
+            case LocalDate _ -> TYPE_DATE;
+            default -> TYPE_STRING;
+        };
+        return type + URLEncoder.encode(value.toString(), UTF_8);
+    }
+
+    private static Object decodeValue(final String typedValue, final String cursor) {
+        final var value = URLDecoder.decode(typedValue.substring(1), UTF_8);
+        try {
+            return switch (typedValue.charAt(0)) {
+                case TYPE_STRING -> value;
+                case TYPE_UUID -> UUID.fromString(value);
+                case TYPE_DATE -> LocalDate.parse(value);
+                default -> throw new InvalidCursorException(cursor);
+            };
+        } catch (final IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidCursorException(cursor, ex);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.acme.jobconnect.controller;
+
+import java.util.Collections;
+import java.util.List;
+import org.jspecify.annotations.Nullable;
+
+/// Response-Body für die Keyset-Pagination, analog zu `PagedModel` bei OFFSET/LIMIT.
+///
+/// @param content Die Datensätze im aktuellen Fenster
+/// @param next Cursor-Token für das nächste Fenster oder `null`, falls es kein weiteres Fenster gibt
+/// @param total Gesamtanzahl der Datensätze, nur falls sie mit `count=true` explizit angefordert wurde
+/// @param <T> Typ der Datensätze
+public record WindowModel<T>(List<T> content, @Nullable String next, @Nullable Long total) {
+    // https://stackoverflow.com/questions/77359073/how-to-solve-ei-expose-rep-in-records-for-lists
+    public WindowModel(final List<T> content, @Nullable final String next, @Nullable final Long total) {
+        this.content = Collections.unmodifiableList(content);
+        this.next = next;
+        this.total = total;
+    }
+}
@@ -1,24 +1,34 @@
 package com.acme.jobconnect.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
 import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.type.SqlTypes;
 import static jakarta.persistence.EnumType.STRING;
+import static jakarta.persistence.FetchType.LAZY;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
+import static org.hibernate.annotations.UuidGenerator.Style.VERSION_7;
 
 @Entity
+@Cacheable
+@Cache(usage = READ_WRITE)
 public class Application {
     @Id
-    @GeneratedValue
+    @UuidGenerator(style = VERSION_7)
     private UUID id;
     private String applicant;
 
@@ -37,6 +47,13 @@ public class Application {
     @Enumerated(STRING)
     private ApplicationStatus status;
 
+    /// Besitzende Seite der Beziehung zu [JobOffer], d.h. `joboffer_id` wird mit dem `INSERT` der Bewerbung
+    /// geschrieben.
+    @ManyToOne(fetch = LAZY, optional = false)
+    @JoinColumn(name = "joboffer_id")
+    @JsonIgnore
+    private JobOffer jobOffer;
+
     public Application(final UUID id, final String applicant, final URI resume, final URI coverletter, final LocalDate date, final List<URI> documents, final ApplicationStatus status) {
         this.id = id;
         this.applicant = applicant;
@@ -118,6 +135,14 @@ public class Application {
         this.status = status;
     }
 
+    public JobOffer getJobOffer() {
+        return jobOffer;
+    }
+
+    public void setJobOffer(final JobOffer jobOffer) {
+        this.jobOffer = jobOffer;
+    }
+
     @Override
     public String toString() {
         return "Application{" +
@@ -1,18 +1,24 @@
 package com.acme.jobconnect.entity;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import java.math.BigDecimal;
 import java.util.Objects;
 import java.util.UUID;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.UuidGenerator;
 import static jakarta.persistence.EnumType.STRING;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
+import static org.hibernate.annotations.UuidGenerator.Style.VERSION_7;
 
 @Entity
+@Cacheable
+@Cache(usage = READ_WRITE)
 public class JobDescription {
     @Id
-    @GeneratedValue
+    @UuidGenerator(style = VERSION_7)
     private UUID id;
     private String title;
     private String location;
@@ -6,12 +6,17 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
+import org.hibernate.annotations.Cache;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.OptimisticLock;
+import org.hibernate.annotations.UuidGenerator;
 import static com.acme.jobconnect.entity.JobOffer.DESCRIPTION_APPLICATIONS_GRAPH;
 import static jakarta.persistence.CascadeType.PERSIST;
 import static jakarta.persistence.CascadeType.REMOVE;
 import static jakarta.persistence.EnumType.STRING;
 import static jakarta.persistence.FetchType.LAZY;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
+import static org.hibernate.annotations.UuidGenerator.Style.VERSION_7;
 
 /// Data for Joboffer.
 @Entity
@@ -20,6 +25,8 @@ import static jakarta.persistence.FetchType.LAZY;
     @NamedAttributeNode("description"), @NamedAttributeNode("applications")
 })
 @Table(name = "joboffer")
+@Cacheable
+@Cache(usage = READ_WRITE)
 @SuppressWarnings({
     "ClassFanOutComplexity",
     "RequireEmptyLineBeforeBlockTagGroup",
@@ -38,7 +45,7 @@ public class JobOffer {
     public static final String DESCRIPTION_APPLICATIONS_GRAPH = "JobOffer.descriptionApplications";
 
     @Id
-    @GeneratedValue
+    @UuidGenerator(style = VERSION_7)
     private UUID id;
 
     @Version
@@ -50,14 +57,28 @@ public class JobOffer {
     private LocalDate publicationdate;
 
     private LocalDate expirationdate;
+
+    /// Wird nur durch `ViewCounter` mit SQL erhöht, d.h. ohne Hibernate und ohne neue Version.
+    @Column(updatable = false)
     private int viewscount;
 
     @Enumerated(STRING)
     private JobOfferStatus status;
 
-    @OneToMany(cascade = {PERSIST, REMOVE}, orphanRemoval = true)
-    @JoinColumn(name = "joboffer_id", nullable = false)
-    @OrderColumn(name = "idx", nullable = false)
+    /// Titel der Stellenbeschreibung als Teil des eindeutigen fachlichen Schlüssels `(company, title_key)`. Wird nur
+    /// beim Neuanlegen gesetzt, weil [#set(JobOffer)] die Stellenbeschreibung nicht ändert.
+    @Column(updatable = false)
+    @JsonIgnore
+    private String titleKey;
+
+    /// Die Fremdschlüssel-Spalte `joboffer_id` gehört zu [Application#getJobOffer()], d.h. eine neue Bewerbung
+    /// ist ein einzelnes `INSERT`, ohne die Collection zu laden oder Positionen umzunummerieren.
+    /// Neue Bewerbungen erhöhen nicht die Version des JobOffers, damit viele gleichzeitige Bewerbungen nicht zu
+    /// Konflikten beim optimistischen Locking führen.
+    @OneToMany(mappedBy = "jobOffer", cascade = {PERSIST, REMOVE}, orphanRemoval = true)
+    @OrderBy("date ASC, id ASC")
+    @OptimisticLock(excluded = true)
+    @Cache(usage = READ_WRITE)
     @JsonIgnore
     private List<Application> applications;
 
@@ -73,18 +94,22 @@ public class JobOffer {
         this.expirationdate = expirationdate;
         this.viewscount = 0;
         this.status = status;
-        this.applications = applications;
         this.description = description;
+        setApplications(applications);
     }
 
     public JobOffer() {
     }
 
+    @PrePersist
+    void prePersist() {
+        titleKey = description.getTitle();
+    }
+
     public void set(final JobOffer jobOffer) {
         company = jobOffer.company;
         publicationdate = jobOffer.publicationdate;
         expirationdate = jobOffer.expirationdate;
-        viewscount = jobOffer.viewscount;
         status = jobOffer.status;
     }
 
@@ -159,8 +184,18 @@ public class JobOffer {
         return applications;
     }
 
+    /// Die Bewerbungen setzen und bei jeder Bewerbung die Rückwärts-Referenz auf dieses JobOffer.
+    ///
+    /// @param applications Die Bewerbungen
     public void setApplications(final List<Application> applications) {
         this.applications = applications;
+        if (applications != null) {
+            applications.forEach(application -> application.setJobOffer(this));
+        }
+    }
+
+    public String getTitleKey() {
+        return titleKey;
     }
 
     public JobDescription getDescription() {
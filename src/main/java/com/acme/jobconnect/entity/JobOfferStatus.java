@@ -43,14 +43,16 @@ public enum JobOfferStatus {
         return value;
     }
 
-    /// Konvertierung eines Strings in einen Enum-Wert.
+    /// Konvertierung eines Strings in einen Enum-Wert. Akzeptiert wird der interne Wert wie `A` und der Name wie
+    /// `ACTIVE`, jeweils ohne Berücksichtigung der Groß- und Kleinschreibung. Dieselbe Konvertierung gilt für
+    /// JSON-Datensätze, _JSON Merge Patch_ und Query-Parameter wie `DELETE /api?status=CLOSED`.
     ///
     /// @param value Der String, zu dem ein passender Enum-Wert ermittelt werden soll.
     /// @return Passender Enum-Wert oder null.
     @JsonCreator
     public static JobOfferStatus of(final String value) {
         return Stream.of(values())
-            .filter(status -> status.value.equalsIgnoreCase(value))
+            .filter(status -> status.value.equalsIgnoreCase(value) || status.name().equalsIgnoreCase(value))
             .findFirst()
             .orElse(null);
     }
@@ -0,0 +1,145 @@
+package com.acme.jobconnect.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
+import static jakarta.persistence.EnumType.STRING;
+import static org.hibernate.annotations.UuidGenerator.Style.VERSION_7;
+
+/// Email in der Outbox, die in derselben Transaktion wie das zugehörige JobOffer geschrieben und später
+/// asynchron gesendet wird.
+@Entity
+@Table(name = "mail_outbox")
+@SuppressWarnings({"JavadocDeclaration", "MissingSummary", "com.intellij.jpb.LombokEqualsAndHashCodeInspection"})
+public class OutboxMail {
+    @Id
+    @UuidGenerator(style = VERSION_7)
+    private UUID id;
+
+    private UUID jobofferId;
+    private String recipient;
+    private String subject;
+    private String plainText;
+    private String htmlText;
+
+    @Enumerated(STRING)
+    private OutboxMailStatus status = OutboxMailStatus.PENDING;
+
+    private int attempts;
+    private Instant nextAttemptAt;
+    private String lastError;
+
+    @CreationTimestamp
+    private Instant created;
+
+    public OutboxMail(
+        final UUID jobofferId,
+        final String recipient,
+        final String subject,
+        final String plainText,
+        final String htmlText
+    ) {
+        this.jobofferId = jobofferId;
+        this.recipient = recipient;
+        this.subject = subject;
+        this.plainText = plainText;
+        this.htmlText = htmlText;
+        nextAttemptAt = Instant.now();
+    }
+
+    public OutboxMail() {
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (!(o instanceof OutboxMail that)) return false;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(id);
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(final UUID id) {
+        this.id = id;
+    }
+
+    public UUID getJobofferId() {
+        return jobofferId;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getPlainText() {
+        return plainText;
+    }
+
+    public String getHtmlText() {
+        return htmlText;
+    }
+
+    public OutboxMailStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(final OutboxMailStatus status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(final int attempts) {
+        this.attempts = attempts;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public void setNextAttemptAt(final Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(final String lastError) {
+        this.lastError = lastError;
+    }
+
+    public Instant getCreated() {
+        return created;
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxMail{" +
+            "id=" + id +
+            ", jobofferId=" + jobofferId +
+            ", subject='" + subject + '\'' +
+            ", status=" + status +
+            ", attempts=" + attempts +
+            ", nextAttemptAt=" + nextAttemptAt +
+            '}';
+    }
+}
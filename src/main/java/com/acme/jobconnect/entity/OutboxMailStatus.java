@@ -0,0 +1,10 @@
+package com.acme.jobconnect.entity;
+
+/// Status einer Email in der Outbox. Erfolgreich gesendete Emails werden aus der Outbox gelöscht.
+public enum OutboxMailStatus {
+    /// Die Email wartet auf den nächsten Sendeversuch.
+    PENDING,
+
+    /// Die Email konnte auch nach der maximalen Anzahl an Versuchen nicht gesendet werden (Dead Letter).
+    DEAD
+}
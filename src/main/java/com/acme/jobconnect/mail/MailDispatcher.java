@@ -0,0 +1,164 @@
+package com.acme.jobconnect.mail;
+
+import com.acme.jobconnect.entity.OutboxMail;
+import com.acme.jobconnect.repository.OutboxMailRepository;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
+import static com.acme.jobconnect.entity.OutboxMailStatus.DEAD;
+
+/// Emails aus der Outbox blockweise senden.
+///
+/// Ein Block wird in einer kurzen Transaktion gesperrt und für die Dauer von `lease` für andere Instanzen
+/// zurückgestellt. Gesendet wird außerhalb der Transaktion über eine einzige SMTP-Verbindung, so dass während der
+/// SMTP-Kommunikation keine DB-Verbindung belegt ist. Danach werden gesendete Emails gelöscht und fehlgeschlagene
+/// mit exponentiellem Backoff erneut eingeplant oder nach `maxAttempts` Versuchen als Dead Letter markiert.
+@Service
+public class MailDispatcher {
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final int MAX_EXPONENT = 30;
+
+    private final OutboxMailRepository outboxRepo;
+    private final JavaMailSender mailSender;
+    private final MailConfig mailConfig;
+    private final OutboxConfig outboxConfig;
+    private final TransactionOperations transactionOperations;
+    private final StableValue<Logger> logger = StableValue.of();
+
+    MailDispatcher(
+        final OutboxMailRepository outboxRepo,
+        final JavaMailSender mailSender,
+        final MailConfig mailConfig,
+        final OutboxConfig outboxConfig,
+        final TransactionOperations transactionOperations
+    ) {
+        this.outboxRepo = outboxRepo;
+        this.mailSender = mailSender;
+        this.mailConfig = mailConfig;
+        this.outboxConfig = outboxConfig;
+        this.transactionOperations = transactionOperations;
+    }
+
+    /// Einen Block fälliger Emails aus der Outbox senden.
+    ///
+    /// @return Anzahl der erfolgreich gesendeten Emails
+    @Scheduled(fixedDelayString = "${app.mail.outbox.dispatch-interval:PT10S}")
+    public int dispatch() {
+        final var claimed = transactionOperations.execute(_ -> claim());
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+        getLogger().debug("dispatch: {} Emails", claimed.size());
+
+        final var failures = new HashMap<UUID, String>();
+        final var messages = new LinkedHashMap<MimeMessage, UUID>();
+        claimed.forEach(mail -> {
+            try {
+                messages.put(toMimeMessage(mail), mail.getId());
+            } catch (final MessagingException ex) {
+                failures.put(mail.getId(), String.valueOf(ex.getMessage()));
+            }
+        });
+        send(messages, failures);
+
+        final var sent = claimed.size() - failures.size();
+        transactionOperations.executeWithoutResult(_ -> complete(claimed, failures));
+        getLogger().debug("dispatch: {} gesendet, {} fehlgeschlagen", sent, failures.size());
+        return sent;
+    }
+
+    /// Wartezeit bis zum nächsten Versuch: `initialBackoff * 2^(attempts - 1)`, höchstens `maxBackoff`.
+    ///
+    /// @param attempts Anzahl der bisherigen Versuche, mindestens 1
+    /// @return Wartezeit bis zum nächsten Versuch
+    Duration backoff(final int attempts) {
+        // Exponent begrenzen, damit Duration.multipliedBy() nicht überläuft
+        final var exponent = Math.clamp(attempts - 1L, 0, MAX_EXPONENT);
+        final var backoff = outboxConfig.initialBackoff().multipliedBy(1L << exponent);
+        return backoff.compareTo(outboxConfig.maxBackoff()) > 0 ? outboxConfig.maxBackoff() : backoff;
+    }
+
+    private List<OutboxMail> claim() {
+        final var now = Instant.now();
+        final var due = outboxRepo.findDueForUpdate(now, outboxConfig.batchSize());
+        // Gesperrt bis zum Ende der Transaktion; danach verhindert next_attempt_at ein paralleles Senden
+        due.forEach(mail -> mail.setNextAttemptAt(now.plus(outboxConfig.lease())));
+        return due;
+    }
+
+    private MimeMessage toMimeMessage(final OutboxMail mail) throws MessagingException {
+        final var mimeMessage = mailSender.createMimeMessage();
+        final var helper = new MimeMessageHelper(mimeMessage, true);
+        helper.setFrom(mailConfig.from());
+        helper.setTo(mail.getRecipient());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getPlainText(), mail.getHtmlText());
+        return mimeMessage;
+    }
+
+    // Alle Emails eines Blocks werden von JavaMailSenderImpl ueber dieselbe SMTP-Verbindung gesendet
+    private void send(final Map<MimeMessage, UUID> messages, final Map<UUID, String> failures) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        try {
+            mailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+        } catch (final MailSendException ex) {
+            final var failedMessages = ex.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                messages.values().forEach(id -> failures.put(id, String.valueOf(ex.getMessage())));
+                return;
+            }
+            failedMessages.forEach((message, cause) -> {
+                final var id = messages.get(message);
+                if (id != null) {
+                    failures.put(id, String.valueOf(cause.getMessage()));
+                }
+            });
+        } catch (final MailException ex) {
+            getLogger().warn("send: Ist der Mailserver erreichbar? {}", ex.getMessage());
+            messages.values().forEach(id -> failures.put(id, String.valueOf(ex.getMessage())));
+        }
+    }
+
+    private void complete(final List<OutboxMail> claimed, final Map<UUID, String> failures) {
+        final var now = Instant.now();
+        claimed.forEach(mail -> {
+            final var error = failures.get(mail.getId());
+            if (error == null) {
+                outboxRepo.deleteById(mail.getId());
+                return;
+            }
+
+            final var attempts = mail.getAttempts() + 1;
+            mail.setAttempts(attempts);
+            mail.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+            if (attempts >= outboxConfig.maxAttempts()) {
+                getLogger().error("complete: Email {} nach {} Versuchen nicht gesendet: {}", mail.getId(), attempts, error);
+                mail.setStatus(DEAD);
+            } else {
+                mail.setNextAttemptAt(now.plus(backoff(attempts)));
+            }
+            outboxRepo.save(mail);
+        });
+    }
+
+    private Logger getLogger() {
+        return logger.orElseSet(() -> LoggerFactory.getLogger(MailDispatcher.class));
+    }
+}
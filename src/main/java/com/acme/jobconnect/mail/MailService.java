@@ -1,57 +1,47 @@
 package com.acme.jobconnect.mail;
 
 import com.acme.jobconnect.entity.JobOffer;
-import jakarta.mail.MessagingException;
+import com.acme.jobconnect.entity.OutboxMail;
+import com.acme.jobconnect.repository.OutboxMailRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.MailException;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import static org.springframework.transaction.annotation.Propagation.MANDATORY;
 
+/// Emails für neue JobOffers in die Outbox schreiben. Gesendet werden sie durch [MailDispatcher].
 @Service
 @SuppressWarnings("ClassNamePrefixedWithPackageName")
 public class MailService {
     private final StableValue<Logger> logger = StableValue.of();
 
-    /// Objekt für _Jakarta Mail_, um Emails zu verschicken
-    private final JavaMailSender mailSender;
+    /// Repository für die Outbox in der DB
+    private final OutboxMailRepository outboxRepo;
 
     /// Injizierte Properties für _Spring Mail_.
     private final MailConfig mailConfig;
 
-    /// Mailserver
-    @Value("${spring.mail.host}")
-    @SuppressWarnings("NullAway.Init")
-    private String mailhost;
-
-    MailService(final JavaMailSender mailSender, final MailConfig mailConfig) {
-        this.mailSender = mailSender;
+    MailService(final OutboxMailRepository outboxRepo, final MailConfig mailConfig) {
+        this.outboxRepo = outboxRepo;
         this.mailConfig = mailConfig;
     }
 
-    @Async
-    public void send(final JobOffer newJobOffer) {
-        final var mimeMessage = mailSender.createMimeMessage();
-
-        try {
-            final var mimeMessageHelper = new MimeMessageHelper(mimeMessage, true);
-            mimeMessageHelper.setFrom(mailConfig.from());
-            mimeMessageHelper.setTo(mailConfig.sales());
-            mimeMessageHelper.setSubject("Neue JobOffer " + newJobOffer.getId());
-            final var plainText = "Neue JobOffer: " + newJobOffer.getDescription().getTitle();
-            final var htmlText = "<strong>Neuer JobOffer:</strong> <em>" + newJobOffer.getDescription().getTitle() + "</em>";
-            mimeMessageHelper.setText(plainText, htmlText);
-
-            mailSender.send(mimeMessage);
-            getLogger().trace("send: Thread-ID={}, mailConfig={}, jobOffer={}",
-                Thread.currentThread().threadId(), mailhost, newJobOffer);
-        } catch (MailException | MessagingException _) {
-            // TODO Wiederholung, um die Email zu senden
-            getLogger().warn("Email nicht gesendet: Ist der Mailserver {} erreichbar?", mailhost);
-        }
+    /// Eine Email für ein neues JobOffer in die Outbox schreiben. Das geschieht in der Transaktion des Aufrufers,
+    /// d.h. die Email wird genau dann gesendet, wenn auch das JobOffer gespeichert wurde.
+    ///
+    /// @param newJobOffer Das neue JobOffer
+    @Transactional(propagation = MANDATORY)
+    public void enqueue(final JobOffer newJobOffer) {
+        final var title = newJobOffer.getDescription().getTitle();
+        final var mail = new OutboxMail(
+            newJobOffer.getId(),
+            mailConfig.sales(),
+            "Neue JobOffer " + newJobOffer.getId(),
+            "Neue JobOffer: " + title,
+            "<strong>Neuer JobOffer:</strong> <em>" + title + "</em>"
+        );
+        outboxRepo.save(mail);
+        getLogger().trace("enqueue: Thread-ID={}, mail={}", Thread.currentThread().threadId(), mail);
     }
 
     private Logger getLogger() {
@@ -0,0 +1,31 @@
+package com.acme.jobconnect.mail;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/// Spring-Konfiguration für Properties `app.mail.outbox.*`.
+///
+/// @param batchSize Maximale Anzahl an Emails, die über eine SMTP-Verbindung gesendet werden
+/// @param maxAttempts Anzahl der Sendeversuche, bevor eine Email als Dead Letter markiert wird
+/// @param initialBackoff Wartezeit nach dem ersten fehlgeschlagenen Versuch, danach jeweils verdoppelt
+/// @param maxBackoff Maximale Wartezeit zwischen zwei Versuchen
+/// @param lease Zeitspanne, für die eine Email während des Sendens für andere Instanzen gesperrt ist
+@ConfigurationProperties("app.mail.outbox")
+public record OutboxConfig(
+    @DefaultValue("50")
+    int batchSize,
+
+    @DefaultValue("8")
+    int maxAttempts,
+
+    @DefaultValue("PT30S")
+    Duration initialBackoff,
+
+    @DefaultValue("PT1H")
+    Duration maxBackoff,
+
+    @DefaultValue("PT5M")
+    Duration lease
+) {
+}
@@ -0,0 +1,9 @@
+package com.acme.jobconnect.repository;
+
+import com.acme.jobconnect.entity.Application;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/// Repository für einzelne Bewerbungen, die über [Application#getJobOffer()] einem JobOffer zugeordnet werden.
+public interface ApplicationRepository extends JpaRepository<Application, UUID> {
+}
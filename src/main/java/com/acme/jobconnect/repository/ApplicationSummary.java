@@ -0,0 +1,50 @@
+package com.acme.jobconnect.repository;
+
+import com.acme.jobconnect.entity.ApplicationStatus;
+import java.net.URI;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.jspecify.annotations.Nullable;
+
+/// Projektion einer Bewerbung für die Auflistung der Bewerbungen zu einem JobOffer. Die Datensätze werden direkt
+/// aus der Tabelle `application` gelesen, d.h. ohne die Collection `JobOffer.applications` zu laden.
+///
+/// @param id ID der Bewerbung
+/// @param applicant Name des Bewerbers
+/// @param resume URI des Lebenslaufs
+/// @param coverletter URI des Anschreibens
+/// @param date Datum der Bewerbung, zusammen mit der ID der Schlüssel für die Keyset-Pagination
+/// @param documents URIs weiterer Dokumente
+/// @param status Status der Bewerbung
+@SuppressWarnings("RecordComponentNumber")
+public record ApplicationSummary(
+    UUID id,
+    String applicant,
+    URI resume,
+    @Nullable URI coverletter,
+    LocalDate date,
+    List<URI> documents,
+    @Nullable ApplicationStatus status
+) {
+    // https://stackoverflow.com/questions/77359073/how-to-solve-ei-expose-rep-in-records-for-lists
+    @SuppressWarnings("ParameterNumber")
+    public ApplicationSummary(
+        final UUID id,
+        final String applicant,
+        final URI resume,
+        @Nullable final URI coverletter,
+        final LocalDate date,
+        final List<URI> documents,
+        @Nullable final ApplicationStatus status
+    ) {
+        this.id = id;
+        this.applicant = applicant;
+        this.resume = resume;
+        this.coverletter = coverletter;
+        this.date = date;
+        this.documents = Collections.unmodifiableList(documents);
+        this.status = status;
+    }
+}
@@ -0,0 +1,131 @@
+package com.acme.jobconnect.repository;
+
+import com.acme.jobconnect.entity.ApplicationStatus;
+import java.net.URI;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/// Lesezugriff auf die Bewerbungen eines JobOffers mit _SQL_ statt _JPA_.
+///
+/// Die Bewerbungen sind wie `JobOffer.applications` nach `(application_date, id)` sortiert. Diese Spalten sind
+/// der Schlüssel für die Keyset-Pagination, so dass mit dem Index `application_joboffer_date_idx` auch tiefe
+/// Fenster nur die Zeilen des jeweiligen Fensters lesen.
+@Repository
+public class ApplicationSummaryRepository {
+    private static final String SELECT = """
+        SELECT id, applicant, resume, coverletter, application_date, documents, status
+        FROM   application
+        WHERE  joboffer_id = ?
+        """;
+
+    private static final String FIND_BY_ID = SELECT + "AND id = ?\n";
+
+    private static final String ORDER_BY_LIMIT = """
+        ORDER BY application_date, id
+        LIMIT  ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StableValue<Logger> logger = StableValue.of();
+
+    ApplicationSummaryRepository(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /// Bewerbungen zu einem JobOffer nach der Bewerbung `(afterDate, afterId)` suchen.
+    ///
+    /// @param jobOfferId ID des JobOffers
+    /// @param afterDate Datum der letzten Bewerbung des vorherigen Fensters oder `null` für das erste Fenster
+    /// @param afterId ID der letzten Bewerbung des vorherigen Fensters oder `null` für das erste Fenster
+    /// @param status Optionaler Status der Bewerbungen
+    /// @param from Optionales frühestes Datum der Bewerbungen
+    /// @param to Optionales spätestes Datum der Bewerbungen
+    /// @param limit Maximale Anzahl an Bewerbungen
+    /// @return Gefundene Bewerbungen sortiert nach Datum und ID
+    @SuppressWarnings("ParameterNumber")
+    public List<ApplicationSummary> findByJobOfferId(
+        final UUID jobOfferId,
+        @Nullable final LocalDate afterDate,
+        @Nullable final UUID afterId,
+        @Nullable final ApplicationStatus status,
+        @Nullable final LocalDate from,
+        @Nullable final LocalDate to,
+        final int limit
+    ) {
+        getLogger().debug(
+            "findByJobOfferId: jobOfferId={}, afterDate={}, afterId={}, status={}, from={}, to={}, limit={}",
+            jobOfferId, afterDate, afterId, status, from, to, limit
+        );
+
+        final var sql = new StringBuilder(SELECT);
+        final var args = new ArrayList<>(List.<Object>of(jobOfferId));
+        if (afterDate != null && afterId != null) {
+            sql.append("AND (application_date, id) > (?, ?)\n");
+            args.add(afterDate);
+            args.add(afterId);
+        }
+        if (status != null) {
+            sql.append("AND status = ?\n");
+            args.add(status.name());
+        }
+        if (from != null) {
+            sql.append("AND application_date >= ?\n");
+            args.add(from);
+        }
+        if (to != null) {
+            sql.append("AND application_date <= ?\n");
+            args.add(to);
+        }
+        sql.append(ORDER_BY_LIMIT);
+        args.add(limit);
+
+        final var applications = jdbcTemplate.query(sql.toString(), (rs, _) -> toSummary(rs), args.toArray());
+        getLogger().trace("findByJobOfferId: {} Bewerbungen", applications.size());
+        return applications;
+    }
+
+    /// Eine Bewerbung zu einem JobOffer anhand ihrer ID suchen.
+    ///
+    /// @param jobOfferId ID des JobOffers
+    /// @param id ID der Bewerbung
+    /// @return Die gefundene Bewerbung oder ein leeres Optional
+    public Optional<ApplicationSummary> findById(final UUID jobOfferId, final UUID id) {
+        getLogger().debug("findById: jobOfferId={}, id={}", jobOfferId, id);
+        return jdbcTemplate.query(FIND_BY_ID, (rs, _) -> toSummary(rs), jobOfferId, id)
+            .stream()
+            .findFirst();
+    }
+
+    private static ApplicationSummary toSummary(final ResultSet rs) throws SQLException {
+        final var coverletter = rs.getString("coverletter");
+        final var status = rs.getString("status");
+        final var documentsArray = rs.getArray("documents");
+        final var documents = documentsArray == null
+            ? List.<URI>of()
+            : Arrays.stream((String[]) documentsArray.getArray()).map(URI::create).toList();
+        return new ApplicationSummary(
+            rs.getObject("id", UUID.class),
+            rs.getString("applicant"),
+            URI.create(rs.getString("resume")),
+            coverletter == null ? null : URI.create(coverletter),
+            rs.getObject("application_date", LocalDate.class),
+            documents,
+            status == null ? null : ApplicationStatus.valueOf(status)
+        );
+    }
+
+    private Logger getLogger() {
+        return logger.orElseSet(() -> LoggerFactory.getLogger(ApplicationSummaryRepository.class));
+    }
+}
@@ -0,0 +1,40 @@
+package com.acme.jobconnect.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.function.Consumer;
+import org.hibernate.Cache;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/// Einträge aus dem 2nd-Level-Cache und dem Query-Cache entfernen, nachdem [JobOfferUpdateRepository] oder
+/// [JobOfferDeleteRepository] die DB mit _SQL_ an _Hibernate_ vorbei geändert haben.
+///
+/// Die Einträge werden erst nach dem Commit entfernt. Vorher könnte ein paralleler Request den alten Stand aus der DB
+/// lesen und wieder in den Cache schreiben, der dann bis zur Verdrängung durch `policy.eager-expiration.after-write`
+/// in `application.conf` veraltet wäre. Bei einem Rollback bleibt der Cache unverändert.
+@Component
+class CacheEvictor {
+    private final EntityManagerFactory entityManagerFactory;
+
+    CacheEvictor(final EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /// Einträge nach dem Commit der laufenden Transaktion entfernen bzw. sofort, falls es keine Transaktion gibt.
+    ///
+    /// @param eviction Entfernen der Einträge aus dem Cache von _Hibernate_
+    void afterCommit(final Consumer<Cache> eviction) {
+        final Runnable evict = () -> eviction.accept(entityManagerFactory.getCache().unwrap(Cache.class));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,8 @@
+package com.acme.jobconnect.repository;
+
+/// Fachlicher Schlüssel eines JobOffers aus dem Firmennamen und dem Titel der Stellenbeschreibung.
+///
+/// @param company Firmenname
+/// @param title Titel der Stellenbeschreibung
+public record CompanyTitle(String company, String title) {
+}
@@ -0,0 +1,59 @@
+package com.acme.jobconnect.repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/// Lesezugriff auf die fachlichen Schlüssel aus Firmenname und Titel mit _SQL_ statt _JPA_.
+@Repository
+public class CompanyTitleRepository {
+    // Die Schlüssel werden als 2 Arrays gebunden, d.h. mit genau 2 Parametern unabhängig von der Anzahl der
+    // Schlüssel. Mit IN und einzelnen Parametern wäre die Grenze von 65.535 Parametern schnell erreicht.
+    // Der Titel ist als title_key in joboffer gespeichert, d.h. ohne JOIN mit job_description und mit dem Index des
+    // eindeutigen Schlüssels joboffer_company_title_key.
+    private static final String FIND_EXISTING = """
+        SELECT j.company, j.title_key
+        FROM   joboffer j
+        JOIN   unnest(CAST(? AS text[]), CAST(? AS text[])) AS k(company, title)
+               ON k.company = j.company AND k.title = j.title_key
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StableValue<Logger> logger = StableValue.of();
+
+    CompanyTitleRepository(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /// Die bereits vorhandenen Schlüssel mit einer einzigen Query ermitteln.
+    ///
+    /// @param keys Zu überprüfende Schlüssel aus Firmenname und Titel
+    /// @return Die Schlüssel, zu denen es bereits ein JobOffer gibt
+    public Set<CompanyTitle> findExisting(final Collection<CompanyTitle> keys) {
+        getLogger().debug("findExisting: {} Schluessel", keys.size());
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+
+        final var companies = keys.stream().map(CompanyTitle::company).toArray(String[]::new);
+        final var titles = keys.stream().map(CompanyTitle::title).toArray(String[]::new);
+        final var existing = new HashSet<CompanyTitle>(
+            jdbcTemplate.query(
+                FIND_EXISTING,
+                (rs, _) -> new CompanyTitle(rs.getString(1), rs.getString(2)),
+                companies,
+                titles
+            )
+        );
+        getLogger().debug("findExisting: {} vorhanden", existing.size());
+        return existing;
+    }
+
+    private Logger getLogger() {
+        return logger.orElseSet(() -> LoggerFactory.getLogger(CompanyTitleRepository.class));
+    }
+}
@@ -0,0 +1,42 @@
+package com.acme.jobconnect.repository;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import static org.hibernate.type.StandardBasicTypes.BOOLEAN;
+import static org.hibernate.type.StandardBasicTypes.FLOAT;
+
+/// Eigene Funktionen für Queries mit _Hibernate_, um die Volltextsuche von _PostgreSQL_ zu nutzen.
+/// Der Operator `@@` wird direkt generiert, damit der GIN-Index `job_description_search_vector_idx` verwendet wird.
+/// Die Spalte `search_vector` ist nicht in der Entity-Klasse `JobDescription` gemappt, damit der `tsvector` weder
+/// beim Laden noch im 2nd-Level-Cache mitgeführt wird. Beide Funktionen erhalten deshalb die ID der
+/// Stellenbeschreibung und lesen `search_vector` in einer Subquery.
+/// Registrierung durch `META-INF/services/org.hibernate.boot.model.FunctionContributor`.
+public class FulltextFunctionContributor implements FunctionContributor {
+    /// Name der Funktion für den Vergleich des `tsvector` einer Stellenbeschreibung mit einem Suchbegriff.
+    public static final String FTS_MATCH = "fts_match";
+
+    /// Name der Funktion für die Relevanz eines Treffers.
+    public static final String FTS_RANK = "fts_rank";
+
+    private static final String TSQUERY = "websearch_to_tsquery('simple', ?2)";
+
+    // Semi-Join ueber den GIN-Index statt eines Zugriffs auf die Spalte ueber den Alias des Joins
+    private static final String MATCH = "(?1 IN (SELECT fts_jd.id FROM job_description fts_jd " +
+        "WHERE fts_jd.search_vector @@ " + TSQUERY + "))";
+
+    private static final String RANK = "ts_rank((SELECT fts_jd.search_vector FROM job_description fts_jd " +
+        "WHERE fts_jd.id = ?1), " + TSQUERY + ')';
+
+    /// Öffentlicher Konstruktor für den `ServiceLoader`.
+    public FulltextFunctionContributor() {
+        // leerer Rumpf
+    }
+
+    @Override
+    public void contributeFunctions(final FunctionContributions functionContributions) {
+        final var basicTypeRegistry = functionContributions.getTypeConfiguration().getBasicTypeRegistry();
+        final var functionRegistry = functionContributions.getFunctionRegistry();
+        functionRegistry.registerPattern(FTS_MATCH, MATCH, basicTypeRegistry.resolve(BOOLEAN));
+        functionRegistry.registerPattern(FTS_RANK, RANK, basicTypeRegistry.resolve(FLOAT));
+    }
+}
@@ -0,0 +1,66 @@
+package com.acme.jobconnect.repository;
+
+import com.acme.jobconnect.entity.EmploymentType;
+import com.acme.jobconnect.entity.JobDescription;
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.UUID;
+import org.jspecify.annotations.Nullable;
+
+/// Projektion einer Stellenbeschreibung für die Auflistung von JobOffers. Die langen Texte `responsibilities` und
+/// `requirements` werden nur auf Anfrage gelesen und sind sonst `null`. Bei einer Auswahl mit [JobOfferField] sind
+/// die nicht ausgewählten Attribute ebenfalls `null`.
+///
+/// @param id ID der Stellenbeschreibung
+/// @param title Titel
+/// @param location Arbeitsort
+/// @param salary Gehalt
+/// @param summary Kurzbeschreibung
+/// @param employment Art der Anstellung
+/// @param responsibilities Aufgaben oder `null`, falls nicht gelesen
+/// @param requirements Anforderungen oder `null`, falls nicht gelesen
+@SuppressWarnings("RecordComponentNumber")
+public record JobDescriptionSummary(
+    UUID id,
+    @Nullable String title,
+    @Nullable String location,
+    @Nullable BigDecimal salary,
+    @Nullable String summary,
+    @Nullable EmploymentType employment,
+    @Nullable String responsibilities,
+    @Nullable String requirements
+) {
+    /// Projektion zu einer geladenen Stellenbeschreibung einschließlich der langen Texte.
+    ///
+    /// @param description Stellenbeschreibung als Entity
+    /// @return Projektion der Stellenbeschreibung
+    public static JobDescriptionSummary of(final JobDescription description) {
+        return new JobDescriptionSummary(
+            description.getId(),
+            description.getTitle(),
+            description.getLocation(),
+            description.getSalary(),
+            description.getSummary(),
+            description.getEmployment(),
+            description.getResponsibilities(),
+            description.getRequirements()
+        );
+    }
+
+    /// Eine Kopie mit den ausgewählten Attributen erstellen; die übrigen Attribute außer der ID sind `null`.
+    ///
+    /// @param fields Ausgewählte Attribute
+    /// @return Kopie mit den ausgewählten Attributen
+    public JobDescriptionSummary narrow(final Set<JobOfferField> fields) {
+        return new JobDescriptionSummary(
+            id,
+            fields.contains(JobOfferField.TITLE) ? title : null,
+            fields.contains(JobOfferField.LOCATION) ? location : null,
+            fields.contains(JobOfferField.SALARY) ? salary : null,
+            fields.contains(JobOfferField.SUMMARY) ? summary : null,
+            fields.contains(JobOfferField.EMPLOYMENT) ? employment : null,
+            fields.contains(JobOfferField.RESPONSIBILITIES) ? responsibilities : null,
+            fields.contains(JobOfferField.REQUIREMENTS) ? requirements : null
+        );
+    }
+}
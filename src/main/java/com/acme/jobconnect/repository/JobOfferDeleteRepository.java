@@ -0,0 +1,119 @@
+package com.acme.jobconnect.repository;
+
+import com.acme.jobconnect.entity.Application;
+import com.acme.jobconnect.entity.JobDescription;
+import com.acme.jobconnect.entity.JobOffer;
+import com.acme.jobconnect.entity.JobOfferStatus;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/// Löschen von JobOffers mit _SQL_ statt _JPA_, ohne das Aggregat aus JobOffer, Stellenbeschreibung und Bewerbungen
+/// vorher zu laden.
+///
+/// Mit `cascade = REMOVE` und `orphanRemoval` lädt _Hibernate_ das JobOffer, die Stellenbeschreibung und alle
+/// Bewerbungen und löscht sie dann zeilenweise. Stattdessen gibt es je Aufruf mengenorientierte Statements: die
+/// JobOffers mit `SELECT ... FOR UPDATE` sperren, die Bewerbungen mit `DELETE ... RETURNING id` löschen, danach die
+/// JobOffers und die Stellenbeschreibungen. Durch die Sperre kann bis zum Commit keine neue Bewerbung zu den JobOffers
+/// hinzukommen, d.h. `ON DELETE CASCADE` löscht keine Bewerbung, deren ID für den 2nd-Level-Cache unbekannt wäre.
+@Repository
+public class JobOfferDeleteRepository {
+    private static final String SELECT_BY_ID = """
+        SELECT id, job_description_id
+        FROM   joboffer
+        WHERE  id = ?
+        FOR UPDATE
+        """;
+
+    private static final String SELECT_EXPIRED = """
+        SELECT id, job_description_id
+        FROM   joboffer
+        WHERE  status = ? AND expirationdate < ?
+        FOR UPDATE
+        """;
+
+    private static final String DELETE_APPLICATIONS = "DELETE FROM application WHERE joboffer_id = ANY(?) RETURNING id";
+
+    private static final String DELETE_JOBOFFERS = "DELETE FROM joboffer WHERE id = ANY(?)";
+
+    private static final String DELETE_DESCRIPTIONS = "DELETE FROM job_description WHERE id = ANY(?)";
+
+    private static final RowMapper<DeletedJobOffer> ROW_MAPPER = (rs, _) -> new DeletedJobOffer(
+        rs.getObject("id", UUID.class),
+        rs.getObject("job_description_id", UUID.class)
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheEvictor cacheEvictor;
+    private final StableValue<Logger> logger = StableValue.of();
+
+    JobOfferDeleteRepository(final JdbcTemplate jdbcTemplate, final CacheEvictor cacheEvictor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheEvictor = cacheEvictor;
+    }
+
+    /// Ein JobOffer mit Stellenbeschreibung und Bewerbungen löschen.
+    ///
+    /// @param id ID des zu löschenden JobOffers
+    /// @return `true`, falls es ein JobOffer mit der ID gab
+    public boolean deleteById(final UUID id) {
+        getLogger().debug("deleteById: id={}", id);
+        return delete(jdbcTemplate.query(SELECT_BY_ID, ROW_MAPPER, id)) > 0;
+    }
+
+    /// Alle JobOffers mit einem Status, die vor einem Datum abgelaufen sind, mit Stellenbeschreibung und Bewerbungen
+    /// löschen, z.B. geschlossene JobOffers beim Aufräumen.
+    ///
+    /// @param status Status der zu löschenden JobOffers
+    /// @param expiredBefore Die JobOffers müssen vor diesem Datum abgelaufen sein
+    /// @return Anzahl der gelöschten JobOffers
+    public int deleteExpired(final JobOfferStatus status, final LocalDate expiredBefore) {
+        getLogger().debug("deleteExpired: status={}, expiredBefore={}", status, expiredBefore);
+        return delete(jdbcTemplate.query(SELECT_EXPIRED, ROW_MAPPER, status.name(), expiredBefore));
+    }
+
+    private int delete(final List<DeletedJobOffer> deleted) {
+        if (deleted.isEmpty()) {
+            return 0;
+        }
+
+        final var ids = deleted.stream().map(DeletedJobOffer::id).toArray(UUID[]::new);
+        final var applicationIds = jdbcTemplate.query(
+            DELETE_APPLICATIONS,
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids)),
+            (rs, _) -> rs.getObject("id", UUID.class)
+        );
+        jdbcTemplate.update(DELETE_JOBOFFERS, ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids)));
+        final var descriptionIds = deleted.stream().map(DeletedJobOffer::descriptionId).toArray(UUID[]::new);
+        jdbcTemplate.update(
+            DELETE_DESCRIPTIONS,
+            ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", descriptionIds))
+        );
+
+        // Die DELETEs gehen an Hibernate vorbei, deshalb nach dem Commit die geloeschten Objekte aus dem
+        // 2nd-Level-Cache und die Queries auf joboffer aus dem Query-Cache entfernen
+        cacheEvictor.afterCommit(cache -> {
+            deleted.forEach(jobOffer -> {
+                cache.evict(JobOffer.class, jobOffer.id());
+                cache.evict(JobDescription.class, jobOffer.descriptionId());
+                cache.evictCollectionData(JobOffer.class.getName() + ".applications", jobOffer.id());
+            });
+            applicationIds.forEach(applicationId -> cache.evict(Application.class, applicationId));
+            cache.evictQueryRegion(JobOfferRepository.QUERY_CACHE_REGION);
+        });
+        getLogger().debug("delete: {} JobOffers, {} Bewerbungen", deleted.size(), applicationIds.size());
+        return deleted.size();
+    }
+
+    private Logger getLogger() {
+        return logger.orElseSet(() -> LoggerFactory.getLogger(JobOfferDeleteRepository.class));
+    }
+
+    private record DeletedJobOffer(UUID id, UUID descriptionId) {
+    }
+}
@@ -0,0 +1,65 @@
+package com.acme.jobconnect.repository;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
+
+/// Attribute eines JobOffers und seiner Stellenbeschreibung, die bei der Auflistung mit `fields` ausgewählt werden
+/// können. Die ID des JobOffers wird immer gelesen.
+public enum JobOfferField {
+    COMPANY("company", false),
+    PUBLICATIONDATE("publicationdate", false),
+    EXPIRATIONDATE("expirationdate", false),
+    VIEWSCOUNT("viewscount", false),
+    STATUS("status", false),
+    TITLE("title", true),
+    LOCATION("location", true),
+    SALARY("salary", true),
+    SUMMARY("summary", true),
+    EMPLOYMENT("employment", true),
+    RESPONSIBILITIES("responsibilities", true),
+    REQUIREMENTS("requirements", true);
+
+    /// Alle Attribute außer den langen Texten `responsibilities` und `requirements`.
+    public static final Set<JobOfferField> DEFAULT =
+        Collections.unmodifiableSet(EnumSet.complementOf(EnumSet.of(RESPONSIBILITIES, REQUIREMENTS)));
+
+    /// Alle Attribute einschließlich `responsibilities` und `requirements`.
+    public static final Set<JobOfferField> ALL = Collections.unmodifiableSet(EnumSet.allOf(JobOfferField.class));
+
+    private final String value;
+    private final boolean description;
+
+    JobOfferField(final String value, final boolean description) {
+        this.value = value;
+        this.description = description;
+    }
+
+    /// Den Namen des Attributs im JSON-Datensatz ermitteln.
+    ///
+    /// @return Name des Attributs
+    public String getValue() {
+        return value;
+    }
+
+    /// Abfrage, ob das Attribut zur Stellenbeschreibung gehört.
+    ///
+    /// @return `true`, falls das Attribut zur Stellenbeschreibung gehört
+    public boolean isDescription() {
+        return description;
+    }
+
+    /// Konvertierung eines Strings in einen Enum-Wert.
+    ///
+    /// @param value Der String, zu dem ein passender Enum-Wert ermittelt werden soll.
+    /// @return Passender Enum-Wert oder null.
+    @Nullable
+    public static JobOfferField of(final String value) {
+        return Stream.of(values())
+            .filter(field -> field.value.equalsIgnoreCase(value))
+            .findFirst()
+            .orElse(null);
+    }
+}
@@ -1,7 +1,9 @@
 package com.acme.jobconnect.repository;
 
 import com.acme.jobconnect.entity.JobOffer;
+import jakarta.persistence.QueryHint;
 import java.util.UUID;
+import java.util.stream.Stream;
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,10 +12,20 @@ import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import static com.acme.jobconnect.entity.JobOffer.DESCRIPTION_APPLICATIONS_GRAPH;
 import static com.acme.jobconnect.entity.JobOffer.JOBDESCRIPTION_GRAPH;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_MODE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface JobOfferRepository extends JpaRepository<JobOffer, UUID>, JpaSpecificationExecutor<JobOffer> {
+    /// Region im Query-Cache für die Queries auf die Tabelle `joboffer`, damit nach einem `UPDATE` oder `DELETE` mit
+    /// _SQL_ nur diese Ergebnisse entfernt werden müssen und nicht der ganze Query-Cache.
+    String QUERY_CACHE_REGION = "joboffer-queries";
+
     @EntityGraph(JOBDESCRIPTION_GRAPH)
     @Override
     Page<JobOffer> findAll(Pageable pageable);
@@ -40,23 +52,45 @@ public interface JobOfferRepository extends JpaRepository<JobOffer, UUID>, JpaSp
     @Nullable
     JobOffer findByIdFetchJobDescriptionAndApplications(UUID id);
 
+    /// Nur die Version zu einer ID lesen, z.B. für einen bedingten GET-Request mit `If-None-Match`. Dabei wird weder
+    /// ein JobOffer noch die Stellenbeschreibung geladen. Das Ergebnis wird im Query-Cache gespeichert, der bei
+    /// jeder Änderung der Tabelle `joboffer` durch _Hibernate_ ungültig wird. Bei Änderungen mit _SQL_ wird die Region
+    /// [#QUERY_CACHE_REGION] nach dem Commit geleert.
+    ///
+    /// @param id ID des JobOffers
+    /// @return Version oder `null`, falls es kein JobOffer mit der ID gibt
+    @Query("""
+        SELECT j.version
+        FROM   #{#entityName} j
+        WHERE  j.id = :id
+        """)
+    @QueryHints({
+        @QueryHint(name = HINT_CACHEABLE, value = "true"),
+        @QueryHint(name = HINT_CACHE_REGION, value = QUERY_CACHE_REGION)
+    })
+    @Nullable
+    Integer findVersionById(UUID id);
+
+    /// Alle JobOffers mit Stellenbeschreibung als Stream lesen, z.B. für einen Export. Der JDBC-Treiber holt die
+    /// Datensätze blockweise mit der angegebenen Fetch-Size, die Entities werden ohne Snapshot für Dirty Checking
+    /// geladen und nicht in den 2nd-Level-Cache übernommen. Der Stream muss innerhalb einer Transaktion gelesen
+    /// und danach geschlossen werden.
+    ///
+    /// @return Stream mit allen JobOffers
     @Query("""
         SELECT   j
         FROM     #{#entityName} j
-        WHERE    lower(j.company) LIKE concat(lower(:company), '%')
-        ORDER BY j.company
+        JOIN FETCH j.description
+        ORDER BY j.id
         """)
-    @EntityGraph(JOBDESCRIPTION_GRAPH)
-    Page<JobOffer> findByCompay(String company, Pageable pageable);
+    @QueryHints({
+        @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HINT_READ_ONLY, value = "true"),
+        @QueryHint(name = HINT_CACHE_MODE, value = "IGNORE")
+    })
+    Stream<JobOffer> streamAll();
 
     @SuppressWarnings("BooleanMethodNameMustStartWithQuestion")
     boolean existsByCompany(String company);
 
-    @Query("""
-        SELECT  CASE WHEN COUNT(j) > 0 THEN true ELSE false END
-        FROM    JobOffer j
-        WHERE   j.company = :company AND j.description.title = :title
-        """)
-    boolean existsByCompanyAndTitle(String company, String title);
-
 }
@@ -0,0 +1,80 @@
+package com.acme.jobconnect.repository;
+
+import com.acme.jobconnect.entity.EmploymentType;
+import com.acme.jobconnect.entity.JobOfferStatus;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.jspecify.annotations.Nullable;
+
+/// Projektion eines JobOffers mit Stellenbeschreibung für die Auflistung von JobOffers. Die Datensätze werden mit
+/// einem Konstruktor-Ausdruck gelesen, d.h. ohne Entities im Persistence Context und ohne Snapshot für Dirty
+/// Checking. Bei einer Auswahl mit [JobOfferField] sind die nicht ausgewählten Attribute `null`.
+///
+/// @param id ID des JobOffers
+/// @param company Firmenname
+/// @param publicationdate Datum der Veröffentlichung
+/// @param expirationdate Ablaufdatum
+/// @param viewscount Anzahl der Aufrufe
+/// @param status Status des JobOffers
+/// @param description Projektion der Stellenbeschreibung oder `null`, falls kein Attribut daraus ausgewählt ist
+public record JobOfferSummary(
+    UUID id,
+    @Nullable String company,
+    @Nullable LocalDate publicationdate,
+    @Nullable LocalDate expirationdate,
+    @Nullable Integer viewscount,
+    @Nullable JobOfferStatus status,
+    @Nullable JobDescriptionSummary description
+) {
+    /// Konstruktor für einen Konstruktor-Ausdruck ohne `responsibilities` und `requirements`.
+    @SuppressWarnings("ParameterNumber")
+    public JobOfferSummary(
+        final UUID id,
+        final String company,
+        final LocalDate publicationdate,
+        final LocalDate expirationdate,
+        final Integer viewscount,
+        final JobOfferStatus status,
+        final UUID descriptionId,
+        final String title,
+        final String location,
+        final BigDecimal salary,
+        final String summary,
+        final EmploymentType employment
+    ) {
+        this(id, company, publicationdate, expirationdate, viewscount, status, descriptionId, title, location,
+            salary, summary, employment, null, null);
+    }
+
+    /// Konstruktor für einen Konstruktor-Ausdruck einschließlich `responsibilities` und `requirements`.
+    @SuppressWarnings("ParameterNumber")
+    public JobOfferSummary(
+        final UUID id,
+        final String company,
+        final LocalDate publicationdate,
+        final LocalDate expirationdate,
+        final Integer viewscount,
+        final JobOfferStatus status,
+        final UUID descriptionId,
+        final String title,
+        final String location,
+        final BigDecimal salary,
+        final String summary,
+        final EmploymentType employment,
+        @Nullable final String responsibilities,
+        @Nullable final String requirements
+    ) {
+        this(
+            id,
+            company,
+            publicationdate,
+            expirationdate,
+            viewscount,
+            status,
+            new JobDescriptionSummary(
+                descriptionId, title, location, salary, summary, employment, responsibilities, requirements
+            )
+        );
+    }
+}
@@ -0,0 +1,366 @@
+package com.acme.jobconnect.repository;
+
+import com.acme.jobconnect.entity.JobDescription_;
+import com.acme.jobconnect.entity.JobOffer;
+import com.acme.jobconnect.entity.JobOffer_;
+import com.acme.jobconnect.entity.EmploymentType;
+import com.acme.jobconnect.entity.JobOfferStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+import static com.acme.jobconnect.repository.JobOfferField.COMPANY;
+import static com.acme.jobconnect.repository.JobOfferField.EMPLOYMENT;
+import static com.acme.jobconnect.repository.JobOfferField.EXPIRATIONDATE;
+import static com.acme.jobconnect.repository.JobOfferField.LOCATION;
+import static com.acme.jobconnect.repository.JobOfferField.PUBLICATIONDATE;
+import static com.acme.jobconnect.repository.JobOfferField.REQUIREMENTS;
+import static com.acme.jobconnect.repository.JobOfferField.RESPONSIBILITIES;
+import static com.acme.jobconnect.repository.JobOfferField.SALARY;
+import static com.acme.jobconnect.repository.JobOfferField.STATUS;
+import static com.acme.jobconnect.repository.JobOfferField.SUMMARY;
+import static com.acme.jobconnect.repository.JobOfferField.TITLE;
+import static com.acme.jobconnect.repository.JobOfferField.VIEWSCOUNT;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
+/// Lesezugriff auf JobOffers für die Auflistung mit Projektionen statt Entities.
+///
+/// Es werden nur die Spalten gelesen, die in der Auflistung benötigt werden. Die langen Texte `responsibilities` und
+/// `requirements` der Stellenbeschreibung werden nur auf Anfrage gelesen. Bei einer Auswahl einzelner Attribute mit
+/// [JobOfferField] werden nur deren Spalten gelesen, und ohne Attribute der Stellenbeschreibung entfällt der Join.
+/// Die Specifications aus [SpecificationBuilder] werden unverändert wiederverwendet.
+@Repository
+public class JobOfferSummaryRepository {
+    private static final Sort COMPANY_SORT = Sort.by(JobOffer_.COMPANY, JobOffer_.ID);
+
+    private final EntityManager entityManager;
+    private final SpecificationBuilder specificationBuilder;
+    private final StableValue<Logger> logger = StableValue.of();
+
+    JobOfferSummaryRepository(final EntityManager entityManager, final SpecificationBuilder specificationBuilder) {
+        this.entityManager = entityManager;
+        this.specificationBuilder = specificationBuilder;
+    }
+
+    /// JobOffers zu einer Specification suchen.
+    ///
+    /// @param spec Specification für die Suchkriterien
+    /// @param pageable Angaben zur Pagination
+    /// @param fields Zu lesende Attribute, z.B. [JobOfferField#DEFAULT]
+    /// @return Gefundene JobOffers
+    public Page<JobOfferSummary> find(
+        final Specification<JobOffer> spec,
+        final Pageable pageable,
+        final Set<JobOfferField> fields
+    ) {
+        getLogger().debug("find: pageable={}, fields={}", pageable, fields);
+        final var content = select(spec, pageable, fields, false);
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(spec));
+    }
+
+    /// JobOffers zu einem Präfix des Firmennamens mit [SpecificationBuilder#companyPrefix(String)] suchen. Die Treffer
+    /// werden in der Region [JobOfferRepository#QUERY_CACHE_REGION] des Query-Caches gespeichert, die bei Änderungen
+    /// an der Tabelle `joboffer` durch _Hibernate_ automatisch ungültig wird.
+    ///
+    /// @param company Präfix des Firmennamens
+    /// @param pageable Angaben zur Pagination
+    /// @param fields Zu lesende Attribute, z.B. [JobOfferField#DEFAULT]
+    /// @return Gefundene JobOffers
+    public Page<JobOfferSummary> findByCompany(
+        final String company,
+        final Pageable pageable,
+        final Set<JobOfferField> fields
+    ) {
+        getLogger().debug("findByCompany: company={}, pageable={}, fields={}", company, pageable, fields);
+        final var spec = specificationBuilder.companyPrefix(company);
+        final var sorted = pageable.isPaged()
+            ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), COMPANY_SORT)
+            : Pageable.unpaged(COMPANY_SORT);
+        final var content = select(spec, sorted, fields, true);
+        return PageableExecutionUtils.getPage(content, sorted, () -> count(spec));
+    }
+
+    /// JobOffers zu einer Specification mit Keyset-Pagination suchen, d.h. ohne OFFSET und ohne COUNT. Die Attribute
+    /// der Sortierung werden immer gelesen, weil daraus die Position für das nächste Fenster gebildet wird.
+    ///
+    /// @param spec Specification für die Suchkriterien
+    /// @param sort Sortierung, deren letztes Attribut eindeutig sein muss, z.B. die ID
+    /// @param position Position nach dem letzten Datensatz des vorherigen Fensters
+    /// @param size Maximale Anzahl an Datensätzen im Fenster
+    /// @param fields Zu lesende Attribute, z.B. [JobOfferField#DEFAULT]
+    /// @return Fenster mit den gefundenen JobOffers
+    public Window<JobOfferSummary> scroll(
+        final Specification<JobOffer> spec,
+        final Sort sort,
+        final KeysetScrollPosition position,
+        final int size,
+        final Set<JobOfferField> fields
+    ) {
+        getLogger().debug("scroll: sort={}, position={}, size={}, fields={}", sort, position, size, fields);
+        final var selectedFields = EnumSet.noneOf(JobOfferField.class);
+        selectedFields.addAll(fields);
+        sort.stream()
+            .map(order -> JobOfferField.of(order.getProperty()))
+            .filter(Objects::nonNull)
+            .forEach(selectedFields::add);
+
+        // Ein zusaetzlicher Datensatz zeigt an, ob es ein weiteres Fenster gibt
+        final var pageable = PageRequest.of(0, size + 1, sort);
+        final var content = select(spec.and(after(sort, position)), pageable, selectedFields, false);
+        final var hasNext = content.size() > size;
+        final var window = hasNext ? content.subList(0, size) : content;
+        return Window.from(window, index -> ScrollPosition.forward(keysOf(window.get(index), sort)), hasNext);
+    }
+
+    private List<JobOfferSummary> select(
+        final Specification<JobOffer> spec,
+        final Pageable pageable,
+        final Set<JobOfferField> fields,
+        final boolean cacheable
+    ) {
+        if (!fields.equals(JobOfferField.DEFAULT) && !fields.equals(JobOfferField.ALL)) {
+            return selectFields(spec, pageable, fields, cacheable);
+        }
+
+        final var builder = entityManager.getCriteriaBuilder();
+        final var query = builder.createQuery(JobOfferSummary.class);
+        final var root = query.from(JobOffer.class);
+        final var description = root.join(JobOffer_.description);
+
+        final var selections = new ArrayList<Selection<?>>(List.of(
+            root.get(JobOffer_.id),
+            root.get(JobOffer_.company),
+            root.get(JobOffer_.publicationdate),
+            root.get(JobOffer_.expirationdate),
+            root.get(JobOffer_.viewscount),
+            root.get(JobOffer_.status),
+            description.get(JobDescription_.id),
+            description.get(JobDescription_.title),
+            description.get(JobDescription_.location),
+            description.get(JobDescription_.salary),
+            description.get(JobDescription_.summary),
+            description.get(JobDescription_.employment)
+        ));
+        if (fields.contains(RESPONSIBILITIES)) {
+            selections.add(description.get(JobDescription_.responsibilities));
+            selections.add(description.get(JobDescription_.requirements));
+        }
+        query.select(builder.construct(JobOfferSummary.class, selections.toArray(Selection<?>[]::new)));
+
+        return execute(spec, pageable, cacheable, query, root);
+    }
+
+    // Sparse Fieldset: nur die ID und die ausgewählten Spalten als Tuple lesen
+    private List<JobOfferSummary> selectFields(
+        final Specification<JobOffer> spec,
+        final Pageable pageable,
+        final Set<JobOfferField> fields,
+        final boolean cacheable
+    ) {
+        final var builder = entityManager.getCriteriaBuilder();
+        final var query = builder.createTupleQuery();
+        final var root = query.from(JobOffer.class);
+        final var id = root.get(JobOffer_.id);
+        final var paths = new EnumMap<JobOfferField, Path<?>>(JobOfferField.class);
+        fields.stream()
+            .filter(field -> !field.isDescription())
+            .forEach(field -> paths.put(field, root.get(field.getValue())));
+
+        final var withDescription = fields.stream().anyMatch(JobOfferField::isDescription);
+        final var description = withDescription ? root.join(JobOffer_.description) : null;
+        @Nullable final Path<UUID> descriptionId = description == null ? null : description.get(JobDescription_.id);
+        if (description != null) {
+            fields.stream()
+                .filter(JobOfferField::isDescription)
+                .forEach(field -> paths.put(field, description.get(field.getValue())));
+        }
+
+        final var selections = new ArrayList<Selection<?>>(paths.values());
+        selections.addFirst(id);
+        if (descriptionId != null) {
+            selections.add(descriptionId);
+        }
+        query.multiselect(selections);
+
+        return execute(spec, pageable, cacheable, query, root)
+            .stream()
+            .map(tuple -> toSummary(tuple, id, descriptionId, paths))
+            .toList();
+    }
+
+    private <T> List<T> execute(
+        final Specification<JobOffer> spec,
+        final Pageable pageable,
+        final boolean cacheable,
+        final CriteriaQuery<T> query,
+        final Root<JobOffer> root
+    ) {
+        final var builder = entityManager.getCriteriaBuilder();
+        // Die Specification kann selbst sortieren, z.B. nach der Relevanz bei einer Volltextsuche
+        where(spec, root, query, builder);
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, builder));
+        }
+
+        final var typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        if (cacheable) {
+            typedQuery.setHint(HINT_CACHEABLE, true);
+            typedQuery.setHint(HINT_CACHE_REGION, JobOfferRepository.QUERY_CACHE_REGION);
+        }
+        return typedQuery.getResultList();
+    }
+
+    private static JobOfferSummary toSummary(
+        final Tuple tuple,
+        final Path<UUID> id,
+        @Nullable final Path<UUID> descriptionId,
+        final Map<JobOfferField, Path<?>> paths
+    ) {
+        final var description = descriptionId == null
+            ? null
+            : new JobDescriptionSummary(
+                tuple.get(descriptionId),
+                get(tuple, paths, TITLE, String.class),
+                get(tuple, paths, LOCATION, String.class),
+                get(tuple, paths, SALARY, BigDecimal.class),
+                get(tuple, paths, SUMMARY, String.class),
+                get(tuple, paths, EMPLOYMENT, EmploymentType.class),
+                get(tuple, paths, RESPONSIBILITIES, String.class),
+                get(tuple, paths, REQUIREMENTS, String.class)
+            );
+        return new JobOfferSummary(
+            tuple.get(id),
+            get(tuple, paths, COMPANY, String.class),
+            get(tuple, paths, PUBLICATIONDATE, LocalDate.class),
+            get(tuple, paths, EXPIRATIONDATE, LocalDate.class),
+            get(tuple, paths, VIEWSCOUNT, Integer.class),
+            get(tuple, paths, STATUS, JobOfferStatus.class),
+            description
+        );
+    }
+
+    @Nullable
+    private static <T> T get(
+        final Tuple tuple,
+        final Map<JobOfferField, Path<?>> paths,
+        final JobOfferField field,
+        final Class<T> type
+    ) {
+        final var path = paths.get(field);
+        return path == null ? null : type.cast(tuple.get(path));
+    }
+
+    // Keyset-Bedingung (k1 > v1) OR (k1 = v1 AND k2 > v2) OR ... bzw. mit < bei absteigender Sortierung
+    private static Specification<JobOffer> after(final Sort sort, final KeysetScrollPosition position) {
+        return (root, _, builder) -> {
+            final var keys = position.getKeys();
+            if (keys.isEmpty()) {
+                return null;
+            }
+
+            final var orders = sort.toList();
+            final var alternatives = new ArrayList<Predicate>(orders.size());
+            for (var i = 0; i < orders.size(); i++) {
+                final var conjunction = new ArrayList<Predicate>(i + 1);
+                for (var j = 0; j < i; j++) {
+                    final var property = orders.get(j).getProperty();
+                    conjunction.add(builder.equal(root.get(property), keys.get(property)));
+                }
+                conjunction.add(compare(builder, orders.get(i), root.get(orders.get(i).getProperty()), keys));
+                alternatives.add(builder.and(conjunction.toArray(Predicate[]::new)));
+            }
+            return builder.or(alternatives.toArray(Predicate[]::new));
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Predicate compare(
+        final CriteriaBuilder builder,
+        final Sort.Order order,
+        final Path<?> path,
+        final Map<String, ?> keys
+    ) {
+        final var comparablePath = (Path<Comparable<Object>>) path;
+        final var key = (Comparable<Object>) keys.get(order.getProperty());
+        return order.isAscending() ? builder.greaterThan(comparablePath, key) : builder.lessThan(comparablePath, key);
+    }
+
+    private static Map<String, Object> keysOf(final JobOfferSummary summary, final Sort sort) {
+        final var keys = new LinkedHashMap<String, Object>();
+        sort.forEach(order -> {
+            final var property = order.getProperty();
+            final Object key = switch (property) {
+                case JobOffer_.ID -> summary.id();
+                case JobOffer_.COMPANY -> summary.company();
+                case JobOffer_.PUBLICATIONDATE -> summary.publicationdate();
+                default -> null;
+            };
+            if (key == null) {
+                throw new IllegalArgumentException("Kein Schluessel fuer die Keyset-Pagination: " + property);
+            }
+            keys.put(property, key);
+        });
+        return keys;
+    }
+
+    private long count(final Specification<JobOffer> spec) {
+        final var builder = entityManager.getCriteriaBuilder();
+        final var query = builder.createQuery(Long.class);
+        final var root = query.from(JobOffer.class);
+        query.select(builder.count(root));
+        where(spec, root, query, builder);
+        // Eine Sortierung durch die Specification ist für COUNT überflüssig
+        query.orderBy(List.of());
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static void where(
+        final Specification<JobOffer> spec,
+        final Root<JobOffer> root,
+        final CriteriaQuery<?> query,
+        final CriteriaBuilder builder
+    ) {
+        final var predicate = spec.toPredicate(root, query, builder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+
+    private Logger getLogger() {
+        return logger.orElseSet(() -> LoggerFactory.getLogger(JobOfferSummaryRepository.class));
+    }
+}
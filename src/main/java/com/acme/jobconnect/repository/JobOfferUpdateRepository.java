@@ -0,0 +1,128 @@
+package com.acme.jobconnect.repository;
+
+import com.acme.jobconnect.entity.JobOffer;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/// Schreibzugriff auf die Tabelle `joboffer` mit _SQL_ statt _JPA_ für das Aktualisieren mit optimistischer
+/// Synchronisation.
+///
+/// Statt das JobOffer zu lesen, die Version zu vergleichen und die Änderungen per _Dirty Checking_ zu schreiben, gibt
+/// es ein einziges `UPDATE ... WHERE id = ? AND version = ? RETURNING version`, d.h. einen Roundtrip zur DB.
+/// Beim Patchen enthält das `UPDATE` nur die geänderten Spalten.
+@Repository
+public class JobOfferUpdateRepository {
+    /// Spalten, die mit [#patch(Map, UUID, int)] geändert werden können, wie bei [JobOffer#set(JobOffer)].
+    public static final Set<String> PATCHABLE_COLUMNS =
+        Set.of("company", "publicationdate", "expirationdate", "status");
+
+    // Ohne Publikationsdatum bleibt das bisherige erhalten, weil die Spalte NOT NULL ist
+    private static final String UPDATE = """
+        UPDATE joboffer
+        SET    company = ?,
+               publicationdate = COALESCE(?, publicationdate),
+               expirationdate = ?,
+               status = ?,
+               version = version + 1
+        WHERE  id = ? AND version = ?
+        RETURNING version
+        """;
+
+    private static final String SELECT_VERSION = "SELECT version FROM joboffer WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CacheEvictor cacheEvictor;
+    private final StableValue<Logger> logger = StableValue.of();
+
+    JobOfferUpdateRepository(final JdbcTemplate jdbcTemplate, final CacheEvictor cacheEvictor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cacheEvictor = cacheEvictor;
+    }
+
+    /// Die änderbaren Attribute eines JobOffers wie bei [JobOffer#set(JobOffer)] überschreiben, falls die Version
+    /// noch aktuell ist.
+    ///
+    /// @param jobOffer Objekt mit den neuen Werten
+    /// @param id ID des zu aktualisierenden JobOffers
+    /// @param version Erwartete Version, z.B. aus dem Header `If-Match`
+    /// @return Die neue Version oder `null`, falls es kein JobOffer mit der ID und der Version gibt
+    public @Nullable Integer update(final JobOffer jobOffer, final UUID id, final int version) {
+        getLogger().debug("update: id={}, version={}", id, version);
+        return execute(
+            UPDATE,
+            id,
+            jobOffer.getCompany(),
+            jobOffer.getPublicationdate(),
+            jobOffer.getExpirationdate(),
+            jobOffer.getStatus().name(),
+            id,
+            version
+        );
+    }
+
+    /// Nur die übergebenen Spalten eines JobOffers überschreiben, falls die Version noch aktuell ist.
+    ///
+    /// @param columns Neue Werte je Spalte aus [#PATCHABLE_COLUMNS]; Enums werden als Name gespeichert
+    /// @param id ID des zu aktualisierenden JobOffers
+    /// @param version Erwartete Version, z.B. aus dem Header `If-Match`
+    /// @return Die neue Version oder `null`, falls es kein JobOffer mit der ID und der Version gibt
+    /// @throws IllegalArgumentException falls keine oder eine nicht änderbare Spalte übergeben wird
+    public @Nullable Integer patch(final Map<String, Object> columns, final UUID id, final int version) {
+        getLogger().debug("patch: columns={}, id={}, version={}", columns.keySet(), id, version);
+        if (columns.isEmpty() || !PATCHABLE_COLUMNS.containsAll(columns.keySet())) {
+            throw new IllegalArgumentException("Ungueltige Spalten " + columns.keySet());
+        }
+
+        // Die Spaltennamen stammen aus PATCHABLE_COLUMNS, d.h. keine SQL Injection
+        final var sql = "UPDATE joboffer SET " +
+            columns.keySet().stream().map(column -> column + " = ?").collect(Collectors.joining(", ")) +
+            ", version = version + 1 WHERE id = ? AND version = ? RETURNING version";
+        final var args = new ArrayList<Object>(columns.size() + 2);
+        columns.values().forEach(value -> args.add(value instanceof Enum<?> e ? e.name() : value));
+        args.add(id);
+        args.add(version);
+        return execute(sql, id, args.toArray());
+    }
+
+    /// Die aktuelle Version eines JobOffers direkt aus der DB lesen, z.B. um nach einem erfolglosen `UPDATE` die
+    /// Ursache zu ermitteln. Anders als bei [JobOfferRepository#findVersionById(UUID)] wird der Query-Cache nicht
+    /// verwendet, der nach Änderungen mit _SQL_ erst nach dem Commit geleert wird.
+    ///
+    /// @param id ID des JobOffers
+    /// @return Version oder `null`, falls es kein JobOffer mit der ID gibt
+    public @Nullable Integer findVersion(final UUID id) {
+        getLogger().debug("findVersion: id={}", id);
+        final var versions = jdbcTemplate.query(SELECT_VERSION, (rs, _) -> rs.getInt(1), id);
+        return versions.isEmpty() ? null : versions.getFirst();
+    }
+
+    private @Nullable Integer execute(final String sql, final UUID id, final Object... args) {
+        final var versions = jdbcTemplate.query(sql, (rs, _) -> rs.getInt(1), args);
+        if (versions.isEmpty()) {
+            return null;
+        }
+
+        // Das UPDATE geht an Hibernate vorbei, deshalb nach dem Commit das JobOffer aus dem 2nd-Level-Cache entfernen.
+        // Der Query-Cache kennt keine einzelnen Zeilen: nur die Region mit den Queries auf joboffer leeren, d.h.
+        // findVersionById() und die Suche nach dem Firmennamen
+        cacheEvictor.afterCommit(cache -> {
+            cache.evict(JobOffer.class, id);
+            cache.evictQueryRegion(JobOfferRepository.QUERY_CACHE_REGION);
+        });
+        final var newVersion = versions.getFirst();
+        getLogger().trace("execute: newVersion={}", newVersion);
+        return newVersion;
+    }
+
+    private Logger getLogger() {
+        return logger.orElseSet(() -> LoggerFactory.getLogger(JobOfferUpdateRepository.class));
+    }
+}
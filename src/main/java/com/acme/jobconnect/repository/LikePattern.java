@@ -0,0 +1,48 @@
+package com.acme.jobconnect.repository;
+
+import java.util.Locale;
+
+/// Hilfsklasse für Muster bei `LIKE` mit `lower(company)`, passend zu den Indexen in `V1.4__create_company_index.sql`.
+///
+/// Das Muster wird bereits in Java kleingeschrieben und als fertiger Bind-Parameter übergeben, statt es in SQL z.B. mit
+/// `concat(lower(:company), '%')` zu berechnen. Nur dann kennt der Query-Planer das Muster als Konstante und kann für
+/// ein Präfix den Index mit `text_pattern_ops` bzw. für einen Teilstring den Trigramm-Index verwenden.
+/// Die Platzhalter `%` und `_` aus der Eingabe werden maskiert.
+public final class LikePattern {
+    /// Escape-Zeichen für `LIKE ... ESCAPE`.
+    public static final char ESCAPE = '\\';
+
+    private static final char WILDCARD = '%';
+
+    private LikePattern() {
+    }
+
+    /// Muster für die Suche nach einem Präfix.
+    ///
+    /// @param prefix Präfix, z.B. eines Firmennamens
+    /// @return Muster in Kleinbuchstaben mit `%` am Ende
+    public static String prefix(final String prefix) {
+        return escape(prefix) + WILDCARD;
+    }
+
+    /// Muster für die Suche nach einem Teilstring.
+    ///
+    /// @param teil Teilstring, z.B. eines Firmennamens
+    /// @return Muster in Kleinbuchstaben mit `%` am Anfang und am Ende
+    public static String contains(final String teil) {
+        return WILDCARD + escape(teil) + WILDCARD;
+    }
+
+    private static String escape(final String value) {
+        final var lower = value.toLowerCase(Locale.ROOT);
+        final var escaped = new StringBuilder(lower.length());
+        for (int i = 0; i < lower.length(); i++) {
+            final var ch = lower.charAt(i);
+            if (ch == WILDCARD || ch == '_' || ch == ESCAPE) {
+                escaped.append(ESCAPE);
+            }
+            escaped.append(ch);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,26 @@
+package com.acme.jobconnect.repository;
+
+import com.acme.jobconnect.entity.OutboxMail;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface OutboxMailRepository extends JpaRepository<OutboxMail, UUID> {
+    /// Fällige Emails aus der Outbox lesen und sperren. Mit `SKIP LOCKED` überspringen mehrere Instanzen
+    /// des Microservice die Emails, die gerade von einer anderen Instanz bearbeitet werden.
+    ///
+    /// @param now Aktueller Zeitpunkt
+    /// @param limit Maximale Anzahl an Emails
+    /// @return Fällige Emails, die älteste zuerst
+    @Query(value = """
+        SELECT   *
+        FROM     mail_outbox
+        WHERE    status = 'PENDING' AND next_attempt_at <= :now
+        ORDER BY next_attempt_at
+        LIMIT    :limit
+        FOR UPDATE SKIP LOCKED
+        """, nativeQuery = true)
+    List<OutboxMail> findDueForUpdate(Instant now, int limit);
+}
@@ -4,6 +4,7 @@
  */
 package com.acme.jobconnect.repository;
 
+import com.acme.jobconnect.entity.JobDescription_;
 import com.acme.jobconnect.entity.JobOffer;
 import com.acme.jobconnect.entity.JobOfferStatus;
 import com.acme.jobconnect.entity.JobOffer_;
@@ -15,10 +16,15 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.jpa.domain.PredicateSpecification;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import static com.acme.jobconnect.repository.FulltextFunctionContributor.FTS_MATCH;
+import static com.acme.jobconnect.repository.FulltextFunctionContributor.FTS_RANK;
 
 /// Singleton-Klasse, um Specifications für Queries in Spring Data JPA zu bauen.
 @Component
 public class SpecificationBuilder {
+    /// Query-Parameter für die Volltextsuche in der Stellenbeschreibung.
+    public static final String FULLTEXT_PARAM = "q";
+
     // Annahme: StableValue ist eine Hilfsklasse in deinem Projekt, wie im Prof-Code
     private final StableValue<Logger> logger = StableValue.of();
 
@@ -47,7 +53,25 @@ public class SpecificationBuilder {
             return null;
         }
 
-        return Specification.where(PredicateSpecification.allOf(specs));
+        final var specification = Specification.where(PredicateSpecification.allOf(specs));
+        final var fulltext = suchparameter.get(FULLTEXT_PARAM);
+        return fulltext == null ? specification : specification.and(rankByRelevance(fulltext.getFirst()));
+    }
+
+    /// Specification für die Suche nach einem Präfix des Firmennamens, z.B. für [JobOfferSummaryRepository] und für
+    /// Keyset-Pagination mit `Window`.
+    ///
+    /// @param prefix Präfix des Firmennamens
+    /// @return Specification für eine Query mit Spring Data
+    public Specification<JobOffer> companyPrefix(final String prefix) {
+        getLogger().debug("companyPrefix: prefix={}", prefix);
+        final var pattern = LikePattern.prefix(prefix);
+        final PredicateSpecification<JobOffer> spec = (root, builder) -> builder.like(
+            builder.lower(root.get(JobOffer_.company)),
+            pattern,
+            LikePattern.ESCAPE
+        );
+        return Specification.where(spec);
     }
 
     @Nullable
@@ -74,7 +98,7 @@ public class SpecificationBuilder {
             case "company", "firma" -> company(value);
             case "status" -> status(value);
             case "minViews" -> minViews(value);
-            // case "keyword" -> keywordInDescription(value); // Wenn JobDescription bekannt wäre
+            case FULLTEXT_PARAM -> fulltext(value);
             default -> null;
         };
     }
@@ -83,12 +107,14 @@ public class SpecificationBuilder {
 
     /**
      * Filtert nach Firmenname (Case-Insensitive, Teilstring).
-     * Mapped auf JobOffer_.company
+     * Mapped auf JobOffer_.company, Index joboffer_company_trgm_idx über lower(company).
      */
     private PredicateSpecification<JobOffer> company(final String teil) {
+        final var pattern = LikePattern.contains(teil);
         return (root, builder) -> builder.like(
             builder.lower(root.get(JobOffer_.company)),
-            builder.lower(builder.literal("%" + teil + '%'))
+            pattern,
+            LikePattern.ESCAPE
         );
     }
 
@@ -98,18 +124,16 @@ public class SpecificationBuilder {
      */
     @Nullable
     private PredicateSpecification<JobOffer> status(final String statusStr) {
-        try {
-            // Versucht den String in das Enum zu parsen.
-            // Falls JobOfferStatus eine eigene .of() Methode hat, nutze diese stattdessen.
-            final var statusEnum = JobOfferStatus.valueOf(statusStr);
-            return (root, builder) -> builder.equal(
-                root.get(JobOffer_.status),
-                statusEnum
-            );
-        } catch (IllegalArgumentException | NullPointerException e) {
+        // Wie im JSON-Datensatz: interner Wert oder Name
+        final var statusEnum = JobOfferStatus.of(statusStr);
+        if (statusEnum == null) {
             getLogger().warn("Ungültiger Status für Filterung übergeben: {}", statusStr);
             return null;
         }
+        return (root, builder) -> builder.equal(
+            root.get(JobOffer_.status),
+            statusEnum
+        );
     }
 
     /**
@@ -147,16 +171,40 @@ public class SpecificationBuilder {
         }
     }
 
-    /* * Optional: Falls du das Metamodel für JobDescription hast (JobDescription_.title),
-     * könntest du so etwas hinzufügen:
-     *
-     * private PredicateSpecification<JobOffer> keywordInDescription(final String keyword) {
-     * return (root, builder) -> builder.like(
-     * builder.lower(root.get(JobOffer_.description).get(JobDescription_.title)),
-     * builder.lower(builder.literal("%" + keyword + "%"))
-     * );
-     * }
+    /**
+     * Volltextsuche über Titel, Zusammenfassung, Aufgaben und Anforderungen der Stellenbeschreibung.
+     * Die Spalte search_vector mit GIN-Index wird nur in der Funktion fts_match verwendet, d.h. kein sequentieller
+     * Scan wie bei LIKE '%x%' und kein tsvector in der Entity JobDescription.
      */
+    @Nullable
+    private PredicateSpecification<JobOffer> fulltext(final String suchbegriff) {
+        if (suchbegriff.isBlank()) {
+            return null;
+        }
+        return (root, builder) -> builder.isTrue(builder.function(
+            FTS_MATCH,
+            Boolean.class,
+            root.get(JobOffer_.description).get(JobDescription_.id),
+            builder.literal(suchbegriff)
+        ));
+    }
+
+    /**
+     * Sortierung der Treffer einer Volltextsuche nach Relevanz (ts_rank) und der ID als Tie-Breaker.
+     * Eine explizite Sortierung, z.B. bei Keyset-Pagination, überschreibt diese Sortierung.
+     */
+    private Specification<JobOffer> rankByRelevance(final String suchbegriff) {
+        return (root, query, builder) -> {
+            final var rank = builder.function(
+                FTS_RANK,
+                Float.class,
+                root.get(JobOffer_.description).get(JobDescription_.id),
+                builder.literal(suchbegriff)
+            );
+            query.orderBy(builder.desc(rank), builder.asc(root.get(JobOffer_.id)));
+            return builder.conjunction();
+        };
+    }
 
     private Logger getLogger() {
         return logger.orElseSet(() -> LoggerFactory.getLogger(SpecificationBuilder.class));
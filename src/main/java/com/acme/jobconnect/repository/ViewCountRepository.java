@@ -0,0 +1,79 @@
+package com.acme.jobconnect.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/// Schreibzugriff auf die Spalte `viewscount` der Tabelle `joboffer` mit _SQL_ statt _JPA_.
+///
+/// Die Zähler werden mit einem einzigen `UPDATE ... FROM (VALUES ...)` je Block erhöht. Die Spalte `version` wird
+/// dabei nicht verändert, damit Aufrufe lesender Clients nicht zu einer `VersionOutdatedException` bei
+/// schreibenden Clients führen.
+///
+/// Die JobOffers werden bewusst nicht aus dem 2nd-Level-Cache entfernt, weil sonst jedes aufgerufene JobOffer nach
+/// jedem Schreiben neu geladen würde. Ein JobOffer aus dem Cache zeigt deshalb eine veraltete Anzahl an Aufrufen, bis
+/// es geändert oder durch `policy.eager-expiration.after-write` in `application.conf` verdrängt wird. Weil die
+/// Spalte `viewscount` mit `updatable = false` gemappt ist, überschreibt _Hibernate_ sie nie mit dem veralteten Wert.
+@Repository
+public class ViewCountRepository {
+    /// Maximale Anzahl an Zeilen in `VALUES` je Statement. Je Zeile werden 2 Parameter gebunden und das
+    /// Protokoll von _PostgreSQL_ erlaubt höchstens 65.535 Parameter.
+    static final int MAX_ROWS = 1_000;
+
+    private static final String UPDATE_PREFIX = """
+        UPDATE joboffer AS j
+        SET    viewscount = LEAST(j.viewscount + v.delta, 2147483647)
+        FROM   (VALUES\s""";
+
+    private static final String UPDATE_SUFFIX = """
+        ) AS v(id, delta)
+        WHERE  j.id = v.id
+        """;
+
+    private static final String VALUES_ROW = "(CAST(? AS uuid), CAST(? AS bigint))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StableValue<Logger> logger = StableValue.of();
+
+    ViewCountRepository(final JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /// Die Zähler mehrerer JobOffers um die jeweilige Differenz erhöhen.
+    ///
+    /// @param deltas Anzahl der neuen Aufrufe je ID eines JobOffers
+    /// @return Anzahl der aktualisierten Zeilen
+    public int addViews(final Map<UUID, Long> deltas) {
+        getLogger().debug("addViews: {} JobOffers", deltas.size());
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        final var entries = List.copyOf(deltas.entrySet());
+        var updated = 0;
+        for (var from = 0; from < entries.size(); from += MAX_ROWS) {
+            final var chunk = entries.subList(from, Math.min(from + MAX_ROWS, entries.size()));
+            final var sql = UPDATE_PREFIX + String.join(", ", Collections.nCopies(chunk.size(), VALUES_ROW))
+                + UPDATE_SUFFIX;
+            final var args = new ArrayList<>(chunk.size() * 2);
+            chunk.forEach(entry -> {
+                args.add(entry.getKey());
+                args.add(entry.getValue());
+            });
+            updated += jdbcTemplate.update(sql, args.toArray());
+        }
+
+        getLogger().trace("addViews: updated={}", updated);
+        return updated;
+    }
+
+    private Logger getLogger() {
+        return logger.orElseSet(() -> LoggerFactory.getLogger(ViewCountRepository.class));
+    }
+}
@@ -0,0 +1,113 @@
+package com.acme.jobconnect.service;
+
+import com.acme.jobconnect.entity.ApplicationStatus;
+import com.acme.jobconnect.repository.ApplicationSummary;
+import com.acme.jobconnect.repository.ApplicationSummaryRepository;
+import com.acme.jobconnect.repository.JobOfferRepository;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/// Geschäftslogik für die Bewerbungen zu einem JobOffer.
+@Service
+@Transactional(readOnly = true)
+public class ApplicationService {
+    /// Schlüssel in der Keyset-Position für das Datum einer Bewerbung.
+    static final String DATE = "date";
+
+    /// Schlüssel in der Keyset-Position für die ID einer Bewerbung.
+    static final String ID = "id";
+
+    /// Sortierung der Bewerbungen für die Keyset-Pagination, d.h. die Schlüssel einer Keyset-Position.
+    public static final Sort KEYSET_SORT = Sort.by(DATE, ID);
+
+    private final JobOfferRepository jobOfferRepo;
+    private final ApplicationSummaryRepository summaryRepo;
+    private final StableValue<Logger> logger = StableValue.of();
+
+    ApplicationService(final JobOfferRepository jobOfferRepo, final ApplicationSummaryRepository summaryRepo) {
+        this.jobOfferRepo = jobOfferRepo;
+        this.summaryRepo = summaryRepo;
+    }
+
+    /// Bewerbungen zu einem JobOffer mit Keyset-Pagination über Datum und ID suchen. Dabei wird weder das
+    /// JobOffer noch die Collection `JobOffer.applications` geladen.
+    ///
+    /// @param jobOfferId ID des JobOffers
+    /// @param status Optionaler Status der Bewerbungen
+    /// @param from Optionales frühestes Datum der Bewerbungen
+    /// @param to Optionales spätestes Datum der Bewerbungen
+    /// @param position Position nach der letzten Bewerbung des vorherigen Fensters
+    /// @param size Maximale Anzahl an Bewerbungen im Fenster
+    /// @return Fenster mit den gefundenen Bewerbungen
+    /// @throws NotFoundException falls es kein JobOffer mit der ID gibt
+    @SuppressWarnings("ParameterNumber")
+    public Window<ApplicationSummary> findByJobOfferId(
+        final UUID jobOfferId,
+        @Nullable final ApplicationStatus status,
+        @Nullable final LocalDate from,
+        @Nullable final LocalDate to,
+        final ScrollPosition position,
+        final int size
+    ) {
+        getLogger().debug(
+            "findByJobOfferId: jobOfferId={}, status={}, from={}, to={}, position={}, size={}",
+            jobOfferId, status, from, to, position, size
+        );
+
+        final var keys = position instanceof KeysetScrollPosition keyset ? keyset.getKeys() : Map.<String, Object>of();
+        final var afterDate = keys.get(DATE) instanceof LocalDate date ? date : null;
+        final var afterId = keys.get(ID) instanceof UUID id ? id : null;
+        // Eine Bewerbung mehr lesen, um festzustellen, ob es ein weiteres Fenster gibt
+        final var applications = summaryRepo.findByJobOfferId(
+            jobOfferId,
+            afterDate,
+            afterId,
+            status,
+            from,
+            to,
+            size + 1
+        );
+        if (applications.isEmpty() && position.isInitial() && !jobOfferRepo.existsById(jobOfferId)) {
+            throw new NotFoundException(jobOfferId);
+        }
+
+        final var hasNext = applications.size() > size;
+        final var content = hasNext ? applications.subList(0, size) : applications;
+        getLogger().debug("findByJobOfferId: {} Bewerbungen, hasNext={}", content.size(), hasNext);
+        return Window.from(content, i -> toPosition(content.get(i)), hasNext);
+    }
+
+    /// Eine Bewerbung zu einem JobOffer anhand ihrer ID suchen.
+    ///
+    /// @param jobOfferId ID des JobOffers
+    /// @param id ID der Bewerbung
+    /// @return Die gefundene Bewerbung
+    /// @throws NotFoundException falls es zum JobOffer keine Bewerbung mit der ID gibt
+    public ApplicationSummary findById(final UUID jobOfferId, final UUID id) {
+        getLogger().debug("findById: jobOfferId={}, id={}", jobOfferId, id);
+        return summaryRepo.findById(jobOfferId, id).orElseThrow(() -> new NotFoundException(id));
+    }
+
+    private static ScrollPosition toPosition(final ApplicationSummary application) {
+        // LinkedHashMap, damit die Reihenfolge der Schlüssel im Cursor-Token stabil ist
+        final var keys = new LinkedHashMap<String, Object>();
+        keys.put(DATE, application.date());
+        keys.put(ID, application.id());
+        return ScrollPosition.forward(keys);
+    }
+
+    private Logger getLogger() {
+        return logger.orElseSet(() -> LoggerFactory.getLogger(ApplicationService.class));
+    }
+}
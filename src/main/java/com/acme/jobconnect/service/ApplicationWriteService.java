@@ -0,0 +1,64 @@
+package com.acme.jobconnect.service;
+
+import com.acme.jobconnect.entity.Application;
+import com.acme.jobconnect.repository.ApplicationRepository;
+import com.acme.jobconnect.repository.JobOfferRepository;
+import java.util.UUID;
+import org.hibernate.exception.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/// Geschäftslogik für das Neuanlegen von Bewerbungen zu einem JobOffer.
+///
+/// Eine Bewerbung wird über die Referenz [Application#getJobOffer()] angehängt. Dabei wird weder das JobOffer
+/// noch die Collection `JobOffer.applications` geladen, d.h. es gibt unabhängig von der Anzahl der vorhandenen
+/// Bewerbungen genau ein `INSERT`.
+@Service
+@Transactional(readOnly = true)
+public class ApplicationWriteService {
+    /// Name des Fremdschlüssels `application.joboffer_id` gemäß der Namenskonvention von _PostgreSQL_.
+    static final String JOBOFFER_FK = "application_joboffer_id_fkey";
+
+    private final JobOfferRepository jobOfferRepo;
+    private final ApplicationRepository applicationRepo;
+    private final StableValue<Logger> logger = StableValue.of();
+
+    ApplicationWriteService(final JobOfferRepository jobOfferRepo, final ApplicationRepository applicationRepo) {
+        this.jobOfferRepo = jobOfferRepo;
+        this.applicationRepo = applicationRepo;
+    }
+
+    /// Eine neue Bewerbung an ein JobOffer anhängen.
+    ///
+    /// @param jobOfferId ID des JobOffers
+    /// @param application Die neue Bewerbung ohne ID
+    /// @return Die neu angelegte Bewerbung mit generierter ID
+    /// @throws NotFoundException falls es kein JobOffer mit der ID gibt
+    @Transactional
+    public Application create(final UUID jobOfferId, final Application application) {
+        getLogger().debug("create: jobOfferId={}, application={}", jobOfferId, application);
+
+        // Proxy ohne SELECT: die Existenz des JobOffers prüft der Fremdschlüssel beim INSERT
+        application.setJobOffer(jobOfferRepo.getReferenceById(jobOfferId));
+        final Application applicationDb;
+        try {
+            applicationDb = applicationRepo.saveAndFlush(application);
+        } catch (final DataIntegrityViolationException ex) {
+            if (ex.getCause() instanceof ConstraintViolationException cve
+                && JOBOFFER_FK.equalsIgnoreCase(cve.getConstraintName())) {
+                throw new NotFoundException(jobOfferId);
+            }
+            throw ex;
+        }
+
+        getLogger().debug("create: applicationDb={}", applicationDb);
+        return applicationDb;
+    }
+
+    private Logger getLogger() {
+        return logger.orElseSet(() -> LoggerFactory.getLogger(ApplicationWriteService.class));
+    }
+}
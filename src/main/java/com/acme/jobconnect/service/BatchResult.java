@@ -0,0 +1,25 @@
+package com.acme.jobconnect.service;
+
+import java.util.UUID;
+import org.jspecify.annotations.Nullable;
+
+/// Ergebnis für ein einzelnes JobOffer beim Neuanlegen im Batch.
+///
+/// @param index Position des JobOffers in der übergebenen Liste
+/// @param outcome Ergebnis des Neuanlegens
+/// @param id ID des neu angelegten JobOffers oder `null`
+/// @param message Fehlermeldung oder `null`, falls das JobOffer neu angelegt wurde
+public record BatchResult(int index, Outcome outcome, @Nullable UUID id, @Nullable String message) {
+    /// Mögliche Ergebnisse beim Neuanlegen im Batch.
+    public enum Outcome {
+        /// Das JobOffer wurde neu angelegt.
+        CREATED,
+
+        /// Es gibt bereits ein JobOffer mit gleichem Firmennamen und Titel, in der DB oder weiter vorne im Batch,
+        /// auch falls es während des Batches parallel angelegt wurde.
+        DUPLICATE,
+
+        /// Das JobOffer konnte nicht gespeichert werden, auch nicht einzeln.
+        FAILED
+    }
+}
@@ -0,0 +1,37 @@
+package com.acme.jobconnect.service;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/// Spring-Konfiguration für Properties `app.concurrency-limit.*`.
+///
+/// @param maxConcurrent Obergrenze und Startwert für die gleichzeitigen Zugriffe auf die DB; nicht größer als
+///        `spring.datasource.hikari.maximum-pool-size`
+/// @param minConcurrent Untergrenze für die gleichzeitigen Zugriffe, auf die das Limit höchstens gesenkt wird
+/// @param maxWait Maximale Wartezeit auf einen freien Platz; kürzer als `spring.datasource.hikari.connection-timeout`
+/// @param latencyTolerance Faktor, um den die Dauer eines Zugriffs den gleitenden Mittelwert überschreiten darf, bevor
+///        das Limit gesenkt wird
+/// @param backoffRatio Faktor, mit dem das Limit bei zu hoher Dauer multipliziert wird
+/// @param retryAfter Wartezeit für den Header `Retry-After` bei abgewiesenen Requests
+@ConfigurationProperties("app.concurrency-limit")
+public record ConcurrencyLimitConfig(
+    @DefaultValue("10")
+    int maxConcurrent,
+
+    @DefaultValue("2")
+    int minConcurrent,
+
+    @DefaultValue("PT5S")
+    Duration maxWait,
+
+    @DefaultValue("2.0")
+    double latencyTolerance,
+
+    @DefaultValue("0.9")
+    double backoffRatio,
+
+    @DefaultValue("PT1S")
+    Duration retryAfter
+) {
+}
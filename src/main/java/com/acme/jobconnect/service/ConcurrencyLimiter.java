@@ -0,0 +1,215 @@
+package com.acme.jobconnect.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.Serial;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/// Adaptive Begrenzung der gleichzeitigen Zugriffe auf die DB vor dem Connection-Pool von _Hikari_.
+///
+/// Mit Virtual Threads können tausende Requests gleichzeitig eine DB-Connection anfordern. Statt im Pool bis zum
+/// `connection-timeout` zu warten, warten sie an einer fairen [Semaphore], d.h. in der Reihenfolge ihrer Ankunft und
+/// ohne Carrier Thread. Nach `maxWait` wird der Aufruf mit [OverloadedException] abgewiesen.
+///
+/// Das Limit wird nach _AIMD_ (additive increase, multiplicative decrease) angepasst: Dauert ein Zugriff länger als
+/// `latencyTolerance` mal der gleitende Mittelwert, wird das Limit mit `backoffRatio` multipliziert, höchstens
+/// einmal je Generation von Zugriffen. Ist das Limit mindestens zur Hälfte ausgeschöpft und die Dauer unauffällig,
+/// wird es um 1 erhöht, bis `maxConcurrent` erreicht ist.
+///
+/// Nur lesende Zugriffe wie Suchen und das Lesen eines JobOffers fließen mit [#call(Supplier)] in den Mittelwert
+/// und in die Anpassung des Limits ein. Schreibende Zugriffe und Massenoperationen wie ein Import mit bis zu
+/// 50.000 JobOffers dauern unabhängig von der Auslastung der DB deutlich länger. Sie belegen mit
+/// [#callUnsampled(Supplier)] einen Zugriff, ohne das Limit für die lesenden Zugriffe zu senken.
+///
+/// Der Aufruf muss _außerhalb_ einer Transaktion erfolgen, weil die Connection bereits beim Beginn der Transaktion
+/// aus dem Pool geholt wird.
+@Service
+public class ConcurrencyLimiter {
+    /// Name der Metrik für das aktuelle Limit.
+    static final String LIMIT_GAUGE = "jobconnect.limiter.limit";
+
+    /// Name der Metrik für die aktuell laufenden Zugriffe.
+    static final String INFLIGHT_GAUGE = "jobconnect.limiter.inflight";
+
+    /// Name der Metrik für die abgewiesenen Aufrufe.
+    static final String REJECTED_COUNTER = "jobconnect.limiter.rejected";
+
+    /// Name der Metrik für die Wartezeit vor einem Zugriff.
+    static final String QUEUE_TIMER = "jobconnect.limiter.queue";
+
+    // Gewicht eines neuen Messwerts fuer den gleitenden Mittelwert der Dauer
+    private static final double SMOOTHING = 0.05;
+
+    private final AdjustableSemaphore permits;
+    private final ConcurrencyLimitConfig config;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Counter rejected;
+    private final Timer queueTimer;
+    private final StableValue<Logger> logger = StableValue.of();
+
+    private volatile int limit;
+    private double averageLatencyNanos;
+    private long lastDecreaseNanos;
+
+    ConcurrencyLimiter(final ConcurrencyLimitConfig config, final MeterRegistry registry) {
+        this.config = config;
+        limit = config.maxConcurrent();
+        permits = new AdjustableSemaphore(limit);
+        lastDecreaseNanos = System.nanoTime();
+
+        Gauge.builder(LIMIT_GAUGE, this, ConcurrencyLimiter::getLimit)
+            .description("Aktuelles Limit fuer gleichzeitige Zugriffe auf die DB")
+            .register(registry);
+        Gauge.builder(INFLIGHT_GAUGE, inflight, AtomicInteger::get)
+            .description("Aktuell laufende Zugriffe auf die DB")
+            .register(registry);
+        rejected = Counter.builder(REJECTED_COUNTER)
+            .description("Wegen Ueberlast mit 503 abgewiesene Aufrufe")
+            .register(registry);
+        queueTimer = Timer.builder(QUEUE_TIMER)
+            .description("Wartezeit bis zum Zugriff auf die DB oder bis zur Abweisung")
+            .register(registry);
+    }
+
+    /// Eine Operation ausführen, sobald ein Zugriff auf die DB frei ist. Die Dauer wird für die Anpassung des
+    /// Limits verwendet.
+    ///
+    /// @param operation Operation, i.d.R. der Aufruf einer lesenden, transaktionalen Service-Methode
+    /// @param <T> Typ des Resultats
+    /// @return Resultat der Operation
+    /// @throws OverloadedException falls innerhalb von `maxWait` kein Zugriff frei ist
+    public <T> T call(final Supplier<T> operation) {
+        return call(operation, true);
+    }
+
+    /// Eine Operation ohne Resultat ausführen, sobald ein Zugriff auf die DB frei ist. Die Dauer wird für die
+    /// Anpassung des Limits verwendet.
+    ///
+    /// @param operation Operation, i.d.R. der Aufruf einer lesenden, transaktionalen Service-Methode
+    /// @throws OverloadedException falls innerhalb von `maxWait` kein Zugriff frei ist
+    public void run(final Runnable operation) {
+        call(toSupplier(operation), true);
+    }
+
+    /// Eine schreibende Operation oder eine Massenoperation ausführen, sobald ein Zugriff auf die DB frei ist. Die
+    /// Dauer wird _nicht_ für die Anpassung des Limits verwendet.
+    ///
+    /// @param operation Operation, z.B. der Aufruf einer schreibenden Service-Methode
+    /// @param <T> Typ des Resultats
+    /// @return Resultat der Operation
+    /// @throws OverloadedException falls innerhalb von `maxWait` kein Zugriff frei ist
+    public <T> T callUnsampled(final Supplier<T> operation) {
+        return call(operation, false);
+    }
+
+    /// Eine schreibende Operation ohne Resultat ausführen, sobald ein Zugriff auf die DB frei ist. Die Dauer wird
+    /// _nicht_ für die Anpassung des Limits verwendet.
+    ///
+    /// @param operation Operation, z.B. der Aufruf einer schreibenden Service-Methode
+    /// @throws OverloadedException falls innerhalb von `maxWait` kein Zugriff frei ist
+    public void runUnsampled(final Runnable operation) {
+        call(toSupplier(operation), false);
+    }
+
+    /// Das aktuelle Limit für gleichzeitige Zugriffe auf die DB.
+    ///
+    /// @return Aktuelles Limit
+    public int getLimit() {
+        return limit;
+    }
+
+    private <T> T call(final Supplier<T> operation, final boolean sample) {
+        acquire();
+        final var startNanos = System.nanoTime();
+        final var inflightAtStart = inflight.incrementAndGet();
+        try {
+            return operation.get();
+        } finally {
+            inflight.decrementAndGet();
+            if (sample) {
+                onSample(startNanos, System.nanoTime() - startNanos, inflightAtStart);
+            }
+            permits.release();
+        }
+    }
+
+    private static Supplier<@Nullable Void> toSupplier(final Runnable operation) {
+        return () -> {
+            operation.run();
+            return null;
+        };
+    }
+
+    private void acquire() {
+        final var startNanos = System.nanoTime();
+        try {
+            final var acquired = permits.tryAcquire(config.maxWait().toNanos(), NANOSECONDS);
+            queueTimer.record(System.nanoTime() - startNanos, NANOSECONDS);
+            if (acquired) {
+                return;
+            }
+        } catch (final InterruptedException _) {
+            Thread.currentThread().interrupt();
+        }
+        rejected.increment();
+        getLogger().debug("acquire: kein Zugriff auf die DB innerhalb von {}, limit={}", config.maxWait(), limit);
+        throw new OverloadedException(limit, config.retryAfter());
+    }
+
+    private synchronized void onSample(final long startNanos, final long latencyNanos, final int inflightAtStart) {
+        if (averageLatencyNanos == 0) {
+            averageLatencyNanos = latencyNanos;
+            return;
+        }
+
+        final var tooSlow = latencyNanos > averageLatencyNanos * config.latencyTolerance();
+        averageLatencyNanos += SMOOTHING * (latencyNanos - averageLatencyNanos);
+        if (tooSlow) {
+            // Zugriffe, die vor der letzten Absenkung begonnen haben, senken das Limit nicht erneut
+            if (startNanos - lastDecreaseNanos > 0) {
+                final var newLimit = Math.max(config.minConcurrent(), (int) (limit * config.backoffRatio()));
+                if (newLimit < limit) {
+                    permits.reducePermits(limit - newLimit);
+                    getLogger().debug("onSample: limit={} -> {}, latency={}ns", limit, newLimit, latencyNanos);
+                    limit = newLimit;
+                }
+                lastDecreaseNanos = System.nanoTime();
+            }
+            return;
+        }
+
+        if (inflightAtStart * 2 >= limit && limit < config.maxConcurrent()) {
+            limit++;
+            permits.release();
+            getLogger().trace("onSample: limit={}", limit);
+        }
+    }
+
+    private Logger getLogger() {
+        return logger.orElseSet(() -> LoggerFactory.getLogger(ConcurrencyLimiter.class));
+    }
+
+    // Semaphore, deren Anzahl an Permits auch verringert werden kann; bereits laufende Zugriffe bleiben unberuehrt
+    private static final class AdjustableSemaphore extends Semaphore {
+        @Serial
+        private static final long serialVersionUID = -2166391063254740813L;
+
+        AdjustableSemaphore(final int permits) {
+            super(permits, true);
+        }
+
+        @Override
+        protected void reducePermits(final int reduction) {
+            super.reducePermits(reduction);
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.acme.jobconnect.service;
+
+import com.acme.jobconnect.entity.JobOffer;
+import com.acme.jobconnect.repository.CompanyTitle;
+import com.acme.jobconnect.repository.CompanyTitleRepository;
+import com.acme.jobconnect.repository.JobOfferRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import static com.acme.jobconnect.service.BatchResult.Outcome.CREATED;
+import static com.acme.jobconnect.service.BatchResult.Outcome.DUPLICATE;
+import static com.acme.jobconnect.service.BatchResult.Outcome.FAILED;
+
+/// Geschäftslogik, um viele JobOffers auf einmal neu anzulegen, z.B. beim Import eines Partners.
+///
+/// Die Duplikate werden mit einer einzigen Query ermittelt und die übrigen JobOffers in Blöcken mit jeweils einer
+/// eigenen Transaktion gespeichert. Innerhalb eines Blocks fasst _Hibernate_ die INSERT-Anweisungen gemäß
+/// `hibernate.jdbc.batch_size` zu JDBC-Batches zusammen. Schlägt ein Block fehl, bleiben die vorherigen Blöcke
+/// gespeichert und die JobOffers des fehlgeschlagenen Blocks werden einzeln mit jeweils einer eigenen Transaktion
+/// gespeichert. Dadurch wird nur das fehlerhafte JobOffer als `FAILED` gemeldet und nicht der ganze Block. Verletzt
+/// ein einzelnes JobOffer den Schlüssel [JobOfferWriteService#COMPANY_TITLE_KEY], weil es parallel angelegt wurde,
+/// wird es wie bei [JobOfferWriteService#create(JobOffer)] als `DUPLICATE` gemeldet.
+@Service
+public class JobOfferBatchService {
+    private final JobOfferRepository repo;
+    private final CompanyTitleRepository companyTitleRepo;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final StableValue<Logger> logger = StableValue.of();
+
+    JobOfferBatchService(
+        final JobOfferRepository repo,
+        final CompanyTitleRepository companyTitleRepo,
+        final PlatformTransactionManager transactionManager,
+        final ApplicationEventPublisher eventPublisher,
+        @Value("${app.batch.chunk-size:500}") final int chunkSize
+    ) {
+        this.repo = repo;
+        this.companyTitleRepo = companyTitleRepo;
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    /// Mehrere JobOffers neu anlegen. Anders als bei [JobOfferWriteService#create(JobOffer)] wird keine Email
+    /// je JobOffer verschickt.
+    ///
+    /// @param jobOffers Die neu anzulegenden JobOffers jeweils mit Stellenbeschreibung
+    /// @return Ergebnis je JobOffer in derselben Reihenfolge wie `jobOffers`
+    public List<BatchResult> createAll(final List<JobOffer> jobOffers) {
+        getLogger().debug("createAll: {} JobOffers, chunkSize={}", jobOffers.size(), chunkSize);
+
+        final var keys = jobOffers.stream()
+            .map(jobOffer -> new CompanyTitle(jobOffer.getCompany(), jobOffer.getDescription().getTitle()))
+            .toList();
+        final var seen = new HashSet<>(companyTitleRepo.findExisting(keys));
+
+        final var results = new BatchResult[jobOffers.size()];
+        final var newIndexes = new ArrayList<Integer>(jobOffers.size());
+        for (var i = 0; i < jobOffers.size(); i++) {
+            final var key = keys.get(i);
+            if (seen.add(key)) {
+                newIndexes.add(i);
+            } else {
+                final var ex = new JobOfferExistsException(key.company(), key.title());
+                results[i] = new BatchResult(i, DUPLICATE, null, ex.getMessage());
+            }
+        }
+
+        for (var from = 0; from < newIndexes.size(); from += chunkSize) {
+            final var chunk = newIndexes.subList(from, Math.min(from + chunkSize, newIndexes.size()));
+            saveChunk(jobOffers, chunk, results);
+        }
+
+        getLogger().debug("createAll: {} neu angelegt", newIndexes.size());
+        return Arrays.asList(results);
+    }
+
+    private void saveChunk(final List<JobOffer> jobOffers, final List<Integer> chunk, final BatchResult[] results) {
+        getLogger().trace("saveChunk: {} JobOffers", chunk.size());
+        final var chunkJobOffers = chunk.stream().map(jobOffers::get).toList();
+        try {
+            transactionTemplate.executeWithoutResult(_ -> {
+                repo.saveAll(chunkJobOffers);
+                eventPublisher.publishEvent(new JobOffersChangedEvent("createAll"));
+            });
+            chunk.forEach(i -> results[i] = new BatchResult(i, CREATED, jobOffers.get(i).getId(), null));
+        } catch (final DataAccessException | TransactionException ex) {
+            final var message = ex.getMostSpecificCause().getMessage();
+            // Nach dem Rollback sind die beim Persistieren generierten IDs ungueltig
+            chunkJobOffers.forEach(JobOfferBatchService::resetIds);
+            if (chunk.size() == 1) {
+                final var i = chunk.getFirst();
+                // Parallel zum Batch neu angelegt, d.h. nach der Query fuer die Duplikate
+                if (JobOfferWriteService.violatesCompanyTitleKey(ex)) {
+                    final var jobOffer = jobOffers.get(i);
+                    final var exists =
+                        new JobOfferExistsException(jobOffer.getCompany(), jobOffer.getDescription().getTitle());
+                    results[i] = new BatchResult(i, DUPLICATE, null, exists.getMessage());
+                    return;
+                }
+                getLogger().warn("saveChunk: JobOffer nicht gespeichert: {}", message);
+                results[i] = new BatchResult(i, FAILED, null, message);
+                return;
+            }
+
+            getLogger().warn("saveChunk: {} JobOffers werden einzeln gespeichert: {}", chunk.size(), message);
+            chunk.forEach(i -> saveChunk(jobOffers, List.of(i), results));
+        }
+    }
+
+    private static void resetIds(final JobOffer jobOffer) {
+        jobOffer.setId(null);
+        jobOffer.setVersion(0);
+        final var description = jobOffer.getDescription();
+        if (description != null) {
+            description.setId(null);
+        }
+        final var applications = jobOffer.getApplications();
+        if (applications != null) {
+            applications.forEach(application -> application.setId(null));
+        }
+    }
+
+    private Logger getLogger() {
+        return logger.orElseSet(() -> LoggerFactory.getLogger(JobOfferBatchService.class));
+    }
+}
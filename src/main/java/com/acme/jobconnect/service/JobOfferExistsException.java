@@ -17,6 +17,7 @@
 package com.acme.jobconnect.service;
 
 import java.io.Serial;
+import org.jspecify.annotations.Nullable;
 
 /// Exception, for job offer already existing.
 ///
@@ -25,6 +26,7 @@ public class JobOfferExistsException extends RuntimeException {
     @Serial
     private static final long serialVersionUID = -1591444778427523090L;
 
+    @Nullable
     private final String title;
     private final String company;
 
@@ -34,7 +36,16 @@ public class JobOfferExistsException extends RuntimeException {
         this.title = title;
     }
 
-    public String getTitle() {
+    /// Konstruktor, falls der Titel nicht bekannt ist, z.B. beim Ändern des Firmennamens.
+    ///
+    /// @param company Der neue Firmenname
+    JobOfferExistsException(final String company) {
+        super("The title by company " + company + " already exists.");
+        this.company = company;
+        title = null;
+    }
+
+    public @Nullable String getTitle() {
         return title;
     }
 
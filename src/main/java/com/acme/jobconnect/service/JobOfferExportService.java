@@ -0,0 +1,49 @@
+package com.acme.jobconnect.service;
+
+import com.acme.jobconnect.entity.JobOffer;
+import com.acme.jobconnect.repository.JobOfferRepository;
+import jakarta.persistence.EntityManager;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/// Geschäftslogik, um alle JobOffers zu exportieren, ohne sie gleichzeitig im Hauptspeicher zu halten.
+@Service
+@Transactional(readOnly = true)
+public class JobOfferExportService {
+    private final JobOfferRepository repo;
+    private final EntityManager entityManager;
+    private final StableValue<Logger> logger = StableValue.of();
+
+    JobOfferExportService(final JobOfferRepository repo, final EntityManager entityManager) {
+        this.repo = repo;
+        this.entityManager = entityManager;
+    }
+
+    /// Alle JobOffers mit Stellenbeschreibung nacheinander an `consumer` übergeben. Jedes JobOffer wird direkt
+    /// danach aus dem Persistence Context entfernt, so dass der Speicherbedarf unabhängig von der Anzahl ist.
+    ///
+    /// @param consumer Verarbeitung eines einzelnen JobOffers, z.B. Schreiben in den Response-Body
+    /// @return Anzahl der exportierten JobOffers
+    public long export(final Consumer<JobOffer> consumer) {
+        getLogger().debug("export");
+        var count = 0L;
+        try (var jobOffers = repo.streamAll()) {
+            for (final var iterator = jobOffers.iterator(); iterator.hasNext(); count++) {
+                final var jobOffer = iterator.next();
+                consumer.accept(jobOffer);
+                // kein CascadeType.DETACH bei JobOffer.description
+                entityManager.detach(jobOffer.getDescription());
+                entityManager.detach(jobOffer);
+            }
+        }
+        getLogger().debug("export: {} JobOffers", count);
+        return count;
+    }
+
+    private Logger getLogger() {
+        return logger.orElseSet(() -> LoggerFactory.getLogger(JobOfferExportService.class));
+    }
+}
@@ -1,41 +1,117 @@
 package com.acme.jobconnect.service;
 
 import com.acme.jobconnect.entity.JobOffer;
+import com.acme.jobconnect.repository.JobOfferField;
 import com.acme.jobconnect.repository.JobOfferRepository;
+import com.acme.jobconnect.repository.JobOfferSummary;
+import com.acme.jobconnect.repository.JobOfferSummaryRepository;
 import com.acme.jobconnect.repository.SpecificationBuilder;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import static org.springframework.data.domain.Sort.Direction.DESC;
 
 @Service
 @Transactional(readOnly = true)
 public class JobOfferService {
+    /// Sortierung für die Keyset-Pagination bei der Suche: neueste Angebote zuerst, die ID als Tie-Breaker.
+    public static final Sort SEARCH_SORT = Sort.by(DESC, "publicationdate", "id");
+
+    /// Sortierung für die Keyset-Pagination bei der Suche nach einem Firmennamen.
+    public static final Sort COMPANY_SORT = Sort.by("company", "id");
+
     private final JobOfferRepository repo;
+    private final JobOfferSummaryRepository summaryRepo;
     private final SpecificationBuilder specificationBuilder;
     private final StableValue<Logger> logger = StableValue.of();
 
-    JobOfferService(final JobOfferRepository repo, final SpecificationBuilder specificationBuilder) {
+    JobOfferService(
+        final JobOfferRepository repo,
+        final JobOfferSummaryRepository summaryRepo,
+        final SpecificationBuilder specificationBuilder
+    ) {
         this.repo = repo;
+        this.summaryRepo = summaryRepo;
         this.specificationBuilder = specificationBuilder;
     }
 
-    public Page<JobOffer> findByCompany(
+    /// JobOffers zu einem Präfix des Firmennamens als Projektion suchen, d.h. ohne Entities zu laden.
+    ///
+    /// @param company Präfix des Firmennamens
+    /// @param pageable Angaben zur Pagination
+    /// @param fields Zu lesende Attribute, z.B. [JobOfferField#DEFAULT]
+    /// @return Gefundene JobOffers
+    /// @throws NotFoundException falls keine JobOffers gefunden wurden
+    public Page<JobOfferSummary> findSummariesByCompany(
         final String company,
-        final Pageable pageable
+        final Pageable pageable,
+        final Set<JobOfferField> fields
     ) {
-        getLogger().trace("findByCompany: {}", company);
-        final var jobOfferPage = repo.findByCompay(company, pageable);
-        if (jobOfferPage.isEmpty()) {
+        getLogger().trace("findSummariesByCompany: company={}, fields={}", company, fields);
+        final var summaryPage = summaryRepo.findByCompany(company, pageable, fields);
+        if (summaryPage.isEmpty()) {
             throw new NotFoundException();
         }
-        getLogger().trace("findByCompany: {}, {}", jobOfferPage, jobOfferPage.getContent());
-        return jobOfferPage;
+        getLogger().trace("findSummariesByCompany: {}", summaryPage.getContent());
+        return summaryPage;
+    }
+
+    /// JobOffers zu einem Präfix des Firmennamens mit Keyset-Pagination als Projektion suchen, d.h. ohne OFFSET, ohne
+    /// COUNT und ohne Entities zu laden.
+    ///
+    /// @param company Präfix des Firmennamens
+    /// @param position Position nach dem letzten Datensatz des vorherigen Fensters
+    /// @param size Maximale Anzahl an Datensätzen im Fenster
+    /// @param fields Zu lesende Attribute, z.B. [JobOfferField#DEFAULT]
+    /// @return Fenster mit den gefundenen JobOffers
+    /// @throws NotFoundException falls beim ersten Fenster keine JobOffers gefunden wurden
+    public Window<JobOfferSummary> findSummariesByCompany(
+        final String company,
+        final KeysetScrollPosition position,
+        final int size,
+        final Set<JobOfferField> fields
+    ) {
+        getLogger().trace("findSummariesByCompany: company={}, position={}, size={}", company, position, size);
+        final var spec = specificationBuilder.companyPrefix(company);
+        final var window = summaryRepo.scroll(spec, COMPANY_SORT, position, size, fields);
+        if (window.isEmpty() && position.isInitial()) {
+            throw new NotFoundException();
+        }
+        getLogger().trace("findSummariesByCompany: {}", window.getContent());
+        return window;
+    }
+
+    /// Anzahl der JobOffers zu einem Präfix des Firmennamens ermitteln.
+    ///
+    /// @param company Präfix des Firmennamens
+    /// @return Anzahl der gefundenen JobOffers
+    public long countByCompany(final String company) {
+        getLogger().trace("countByCompany: company={}", company);
+        return repo.count(specificationBuilder.companyPrefix(company));
+    }
+
+    /// Die aktuelle Version eines JobOffers ermitteln, ohne das JobOffer zu laden.
+    ///
+    /// @param id ID des JobOffers
+    /// @return Version oder `null`, falls es kein JobOffer mit der ID gibt
+    @Nullable
+    public Integer findVersionById(final UUID id) {
+        getLogger().debug("findVersionById: id={}", id);
+        final var version = repo.findVersionById(id);
+        getLogger().debug("findVersionById: version={}", version);
+        return version;
     }
 
     public JobOffer findByIdWithDescription(final UUID id) {
@@ -64,25 +140,72 @@ public class JobOfferService {
         return jobOffer;
     }
 
-    @SuppressWarnings({"ReturnCount", "PMD.AvoidLiteralsInIfCondition", "PMD.CyclomaticComplexity"})
-    public Page<JobOffer> find(final Map<String, List<String>> suchparameter, final Pageable pageable) {
-        getLogger().debug("find: suchparameter={}, pageable={}", suchparameter, pageable);
+    /// JobOffers mit Suchparametern als Projektion suchen, d.h. es werden nur die Spalten für die Auflistung gelesen
+    /// und keine Entities in den Persistence Context geladen.
+    ///
+    /// @param suchparameter Suchparameter
+    /// @param pageable Angaben zur Pagination
+    /// @param fields Zu lesende Attribute, z.B. [JobOfferField#DEFAULT]
+    /// @return Gefundene JobOffers
+    /// @throws NotFoundException falls die Suchparameter ungültig sind oder mit Suchparametern keine JobOffers
+    ///         gefunden wurden
+    public Page<JobOfferSummary> findSummaries(
+        final Map<String, List<String>> suchparameter,
+        final Pageable pageable,
+        final Set<JobOfferField> fields
+    ) {
+        getLogger().debug("findSummaries: suchparameter={}, pageable={}, fields={}", suchparameter, pageable, fields);
+        final var summaryPage = summaryRepo.find(toSpecification(suchparameter), pageable, fields);
+        if (summaryPage.isEmpty() && !suchparameter.isEmpty()) {
+            throw new NotFoundException(suchparameter);
+        }
+        getLogger().debug("findSummaries: {}", summaryPage.getContent());
+        return summaryPage;
+    }
 
-        if (suchparameter.isEmpty()) {
-            return repo.findAll(pageable);
+    /// JobOffers mit Suchparametern und Keyset-Pagination als Projektion suchen. Tiefe Fenster kosten dadurch
+    /// genauso viel wie das erste Fenster, und die Gesamtanzahl wird nicht ermittelt.
+    ///
+    /// @param suchparameter Suchparameter
+    /// @param position Position nach dem letzten Datensatz des vorherigen Fensters
+    /// @param size Maximale Anzahl an Datensätzen im Fenster
+    /// @param fields Zu lesende Attribute, z.B. [JobOfferField#DEFAULT]
+    /// @return Fenster mit den gefundenen JobOffers
+    /// @throws NotFoundException falls die Suchparameter ungültig sind oder beim ersten Fenster keine JobOffers
+    ///         gefunden wurden
+    public Window<JobOfferSummary> findSummaries(
+        final Map<String, List<String>> suchparameter,
+        final KeysetScrollPosition position,
+        final int size,
+        final Set<JobOfferField> fields
+    ) {
+        getLogger().debug("findSummaries: suchparameter={}, position={}, size={}", suchparameter, position, size);
+        final var window = summaryRepo.scroll(toSpecification(suchparameter), SEARCH_SORT, position, size, fields);
+        if (window.isEmpty() && position.isInitial()) {
+            throw new NotFoundException(suchparameter);
         }
+        getLogger().debug("findSummaries: {}", window.getContent());
+        return window;
+    }
 
+    /// Anzahl der JobOffers zu Suchparametern ermitteln.
+    ///
+    /// @param suchparameter Suchparameter
+    /// @return Anzahl der gefundenen JobOffers
+    public long count(final Map<String, List<String>> suchparameter) {
+        getLogger().debug("count: suchparameter={}", suchparameter);
+        return repo.count(toSpecification(suchparameter));
+    }
 
+    private Specification<JobOffer> toSpecification(final Map<String, List<String>> suchparameter) {
+        if (suchparameter.isEmpty()) {
+            return Specification.unrestricted();
+        }
         final var specification = specificationBuilder.build(suchparameter);
         if (specification == null) {
             throw new NotFoundException(suchparameter);
         }
-        final var jobOfferPage = repo.findAll(specification, pageable);
-        if (jobOfferPage.isEmpty()) {
-            throw new NotFoundException(suchparameter);
-        }
-        getLogger().debug("find: {}, {}", jobOfferPage, jobOfferPage.getContent());
-        return jobOfferPage;
+        return specification;
     }
 
     private Logger getLogger() {
@@ -1,84 +1,225 @@
 package com.acme.jobconnect.service;
 
 import com.acme.jobconnect.entity.JobOffer;
+import com.acme.jobconnect.entity.JobOfferStatus;
 import com.acme.jobconnect.mail.MailService;
+import com.acme.jobconnect.repository.JobOfferDeleteRepository;
 import com.acme.jobconnect.repository.JobOfferRepository;
+import com.acme.jobconnect.repository.JobOfferUpdateRepository;
+import java.time.LocalDate;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Supplier;
+import org.hibernate.exception.ConstraintViolationException;
+import org.jspecify.annotations.Nullable;
+import org.postgresql.util.PSQLException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional(readOnly = true)
 public class JobOfferWriteService {
+    /// Name des eindeutigen Schlüssels `(company, title_key)` der Tabelle `joboffer`.
+    static final String COMPANY_TITLE_KEY = "joboffer_company_title_key";
+
+    // SQLState von PostgreSQL fuer die Verletzung eines eindeutigen Schluessels
+    private static final String UNIQUE_VIOLATION = "23505";
+
     private final JobOfferRepository repo;
+    private final JobOfferUpdateRepository updateRepo;
+    private final JobOfferDeleteRepository deleteRepo;
     private final MailService mailService;
+    private final ApplicationEventPublisher eventPublisher;
     private final StableValue<Logger> logger = StableValue.of();
 
-    JobOfferWriteService(final JobOfferRepository repo, final MailService mailService) {
+    JobOfferWriteService(
+        final JobOfferRepository repo,
+        final JobOfferUpdateRepository updateRepo,
+        final JobOfferDeleteRepository deleteRepo,
+        final MailService mailService,
+        final ApplicationEventPublisher eventPublisher
+    ) {
         this.repo = repo;
+        this.updateRepo = updateRepo;
+        this.deleteRepo = deleteRepo;
         this.mailService = mailService;
+        this.eventPublisher = eventPublisher;
     }
 
+    /// Ein neues JobOffer mit Stellenbeschreibung anlegen. Die Eindeutigkeit von Firmenname und Titel prüft die DB
+    /// beim `INSERT` mit dem Schlüssel [#COMPANY_TITLE_KEY], d.h. ohne vorherige Query und auch bei parallelen
+    /// Requests.
+    ///
+    /// @param jobOffer Das neue JobOffer
+    /// @return Das neu angelegte JobOffer mit generierter ID
+    /// @throws JobOfferExistsException falls es bereits ein JobOffer der Firma mit demselben Titel gibt
     @Transactional
     @SuppressWarnings("TrailingComment")
     public JobOffer create(final JobOffer jobOffer) {
         getLogger().debug("create: jobOffer={}, description={}, applications={}",
             jobOffer, jobOffer.getDescription(), jobOffer.getApplications());
 
-        final var company = jobOffer.getCompany();
-        final var title = jobOffer.getDescription().getTitle();
-
-        if (repo.existsByCompanyAndTitle(company, title)) {
-            throw new JobOfferExistsException(company, title);
-        }
-
         // TODO Neuen Benutzer beim Authorization-Server anlegen
         // final var login = userService.save(user); // NOSONAR
         // jobOffer.setUsername("user");
 
-        final var jobOfferDb = repo.save(jobOffer);
+        final JobOffer jobOfferDb;
+        try {
+            // flush, damit eine Verletzung des Schlüssels hier und nicht erst beim Commit auftritt
+            jobOfferDb = repo.saveAndFlush(jobOffer);
+        } catch (final DataIntegrityViolationException ex) {
+            if (violatesCompanyTitleKey(ex)) {
+                throw new JobOfferExistsException(jobOffer.getCompany(), jobOffer.getDescription().getTitle());
+            }
+            throw ex;
+        }
 
         getLogger().trace("create: Thread-ID={}", Thread.currentThread().threadId());
-        mailService.send(jobOfferDb);
+        mailService.enqueue(jobOfferDb);
+        eventPublisher.publishEvent(new JobOffersChangedEvent("create"));
 
         getLogger().debug("create: jobOfferDB={}", jobOfferDb);
         return jobOfferDb;
     }
 
+    /// Ein vorhandenes JobOffer mit einem einzigen `UPDATE` überschreiben, ohne es vorher zu lesen. Nur falls keine
+    /// Zeile aktualisiert wurde, wird die Version gelesen, um die Ursache zu ermitteln.
+    ///
+    /// @param jobOffer Objekt mit den neuen Werten
+    /// @param id ID des zu aktualisierenden JobOffers
+    /// @param version Erwartete Version
+    /// @return Die neue Version
+    /// @throws NotFoundException falls es kein JobOffer mit der ID gibt
+    /// @throws VersionOutdatedException falls die Version veraltet ist
+    /// @throws JobOfferExistsException falls es bereits ein JobOffer der neuen Firma mit demselben Titel gibt
     @Transactional
-    public JobOffer update(final JobOffer jobOffer, final UUID id, final int version) {
+    public int update(final JobOffer jobOffer, final UUID id, final int version) {
         getLogger().debug("update: jobOffer={}, id={}, version={}", jobOffer, id, version);
+        final var newVersion = execute(
+            () -> updateRepo.update(jobOffer, id, version),
+            jobOffer.getCompany(),
+            id,
+            version
+        );
+        eventPublisher.publishEvent(new JobOffersChangedEvent("update"));
+        getLogger().debug("update: newVersion={}", newVersion);
+        return newVersion;
+    }
 
-        var jobOfferDb = repo
-            .findById(id)
-            .orElseThrow(() -> new NotFoundException(id));
-
-        getLogger().trace("update: version={}, jobOfferDb={}", version, jobOfferDb);
-
-        if (version != jobOfferDb.getVersion()) {
-            throw new VersionOutdatedException(version);
+    /// Nur die übergebenen Attribute eines vorhandenen JobOffers mit einem einzigen `UPDATE` überschreiben, z.B.
+    /// für einen _JSON Merge Patch_ gemäß _RFC 7396_. Ohne Attribute wird nur die Version geprüft.
+    ///
+    /// @param columns Neue Werte je Spalte, siehe [JobOfferUpdateRepository#PATCHABLE_COLUMNS]
+    /// @param id ID des zu aktualisierenden JobOffers
+    /// @param version Erwartete Version
+    /// @return Die neue Version bzw. die bisherige Version, falls keine Attribute übergeben wurden
+    /// @throws NotFoundException falls es kein JobOffer mit der ID gibt
+    /// @throws VersionOutdatedException falls die Version veraltet ist
+    /// @throws JobOfferExistsException falls es bereits ein JobOffer der neuen Firma mit demselben Titel gibt
+    @Transactional
+    public int patch(final Map<String, Object> columns, final UUID id, final int version) {
+        getLogger().debug("patch: columns={}, id={}, version={}", columns, id, version);
+        if (columns.isEmpty()) {
+            checkVersion(id, version);
+            return version;
         }
 
-        // Zu ueberschreibende Werte uebernehmen
-        jobOfferDb.set(jobOffer);
-        jobOfferDb = repo.save(jobOfferDb);
-
-        getLogger().debug("update: {}", jobOfferDb);
-        return jobOfferDb;
+        final var company = String.valueOf(columns.get("company"));
+        final var newVersion = execute(() -> updateRepo.patch(columns, id, version), company, id, version);
+        eventPublisher.publishEvent(new JobOffersChangedEvent("patch"));
+        getLogger().debug("patch: newVersion={}", newVersion);
+        return newVersion;
     }
 
-    /// Eine JobOffer löschen.
+    /// Eine JobOffer mit Stellenbeschreibung und Bewerbungen löschen, ohne sie vorher zu laden.
     ///
     /// @param id Die ID der zu löschenden JobOffer.
     @Transactional
     public void deleteById(final UUID id) {
         getLogger().debug("deleteById: id={}", id);
-        repo.findById(id).ifPresent(repo::delete);
+        if (deleteRepo.deleteById(id)) {
+            eventPublisher.publishEvent(new JobOffersChangedEvent("delete"));
+        }
     }
 
+    /// Alle JobOffers mit einem Status löschen, die vor einem Datum abgelaufen sind, z.B. geschlossene JobOffers beim
+    /// Aufräumen.
+    ///
+    /// @param status Status der zu löschenden JobOffers
+    /// @param expiredBefore Die JobOffers müssen vor diesem Datum abgelaufen sein
+    /// @return Anzahl der gelöschten JobOffers
+    @Transactional
+    public int deleteExpired(final JobOfferStatus status, final LocalDate expiredBefore) {
+        getLogger().debug("deleteExpired: status={}, expiredBefore={}", status, expiredBefore);
+        final var count = deleteRepo.deleteExpired(status, expiredBefore);
+        if (count > 0) {
+            eventPublisher.publishEvent(new JobOffersChangedEvent("delete"));
+        }
+        getLogger().debug("deleteExpired: count={}", count);
+        return count;
+    }
+
+
+    // Ein UPDATE mit optimistischer Synchronisation ausfuehren und nur falls keine Zeile aktualisiert wurde, die
+    // Ursache ermitteln
+    private int execute(
+        final Supplier<@Nullable Integer> statement,
+        final String company,
+        final UUID id,
+        final int version
+    ) {
+        final Integer newVersion;
+        try {
+            newVersion = statement.get();
+        } catch (final DataIntegrityViolationException ex) {
+            // Nach dem Fehler ist die Transaktion abgebrochen, d.h. der Titel kann nicht mehr gelesen werden
+            if (violatesCompanyTitleKey(ex)) {
+                throw new JobOfferExistsException(company);
+            }
+            throw ex;
+        }
+        if (newVersion == null) {
+            checkVersion(id, version);
+            // Zwischen UPDATE und SELECT wurde die Version durch eine andere Transaktion erhoeht
+            throw new VersionOutdatedException(version);
+        }
+        return newVersion;
+    }
 
+    /// Prüfen, ob eine Exception durch die Verletzung des Schlüssels [#COMPANY_TITLE_KEY] verursacht wurde. Beim
+    /// `INSERT` mit _Hibernate_ ist die Ursache eine `ConstraintViolationException`, beim `UPDATE` mit `JdbcTemplate`
+    /// eine `PSQLException` mit dem Namen des Schlüssels in der Fehlermeldung des DB-Servers.
+    ///
+    /// @param ex Exception beim Schreiben in die DB
+    /// @return `true`, falls es bereits ein JobOffer der Firma mit demselben Titel gibt
+    static boolean violatesCompanyTitleKey(final Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException cve) {
+                return COMPANY_TITLE_KEY.equalsIgnoreCase(cve.getConstraintName());
+            }
+            if (cause instanceof PSQLException psqlEx && UNIQUE_VIOLATION.equals(psqlEx.getSQLState())) {
+                final var serverError = psqlEx.getServerErrorMessage();
+                return serverError != null && COMPANY_TITLE_KEY.equalsIgnoreCase(serverError.getConstraint());
+            }
+        }
+        return false;
+    }
+
+    // Ohne Query-Cache, weil ein UPDATE oder DELETE einer anderen Transaktion ihn erst nach dem Commit leert
+    private void checkVersion(final UUID id, final int version) {
+        final var versionDb = updateRepo.findVersion(id);
+        getLogger().debug("checkVersion: versionDb={}", versionDb);
+        if (versionDb == null) {
+            throw new NotFoundException(id);
+        }
+        if (versionDb != version) {
+            throw new VersionOutdatedException(version);
+        }
+    }
 
     private Logger getLogger() {
         return logger.orElseSet(() -> LoggerFactory.getLogger(JobOfferWriteService.class));
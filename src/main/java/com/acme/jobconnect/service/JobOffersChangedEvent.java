@@ -0,0 +1,9 @@
+package com.acme.jobconnect.service;
+
+/// Event, nachdem JobOffers neu angelegt, geändert oder gelöscht wurden, z.B. um zwischengespeicherte Suchergebnisse
+/// ungültig zu machen. Das Event wird innerhalb der schreibenden Transaktion veröffentlicht; Listener sollten mit
+/// `@TransactionalEventListener` erst nach dem Commit reagieren.
+///
+/// @param operation Art der Änderung für die Protokollierung, z.B. `create`
+public record JobOffersChangedEvent(String operation) {
+}
@@ -0,0 +1,27 @@
+package com.acme.jobconnect.service;
+
+import java.io.Serial;
+import java.time.Duration;
+
+/// [RuntimeException], falls innerhalb der maximalen Wartezeit kein Zugriff auf die DB möglich ist.
+public final class OverloadedException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = 4820315577391482013L;
+
+    private final int limit;
+    private final Duration retryAfter;
+
+    OverloadedException(final int limit, final Duration retryAfter) {
+        super("Service overloaded: all " + limit + " database slots busy");
+        this.limit = limit;
+        this.retryAfter = retryAfter;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
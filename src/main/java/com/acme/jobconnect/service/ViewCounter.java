@@ -0,0 +1,124 @@
+package com.acme.jobconnect.service;
+
+import com.acme.jobconnect.repository.ViewCountRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/// Zähler für die Aufrufe von JobOffers mit _Write-Behind_.
+///
+/// Die Aufrufe werden im Hauptspeicher mit einem `LongAdder` je ID gezählt, d.h. ohne Sperren und ohne Zugriff auf
+/// die DB. Viele gleichzeitige Aufrufe desselben JobOffers verteilen sich auf die Zellen des `LongAdder` statt auf
+/// eine einzige CAS-Operation. Periodisch werden die aufgelaufenen Differenzen mit [ViewCountRepository#addViews(Map)]
+/// in einem Batch geschrieben. Bei einem Absturz gehen die noch nicht geschriebenen Aufrufe verloren.
+@Service
+public class ViewCounter implements MeterBinder {
+    /// Name der Metrik für die Anzahl der noch nicht geschriebenen Aufrufe.
+    static final String BACKLOG_GAUGE = "jobconnect.views.backlog";
+
+    private final Map<UUID, LongAdder> counters = new ConcurrentHashMap<>();
+    private final ViewCountRepository repo;
+    private final StableValue<Logger> logger = StableValue.of();
+
+    // Beim letzten Auslesen ersetzte oder entfernte Zähler mit ihrem bereits geschriebenen Stand
+    private volatile Map<UUID, Retired> retired = Map.of();
+
+    ViewCounter(final ViewCountRepository repo) {
+        this.repo = repo;
+    }
+
+    /// Einen Aufruf eines JobOffers zählen.
+    ///
+    /// @param id ID des aufgerufenen JobOffers
+    public void increment(final UUID id) {
+        counters.computeIfAbsent(id, _ -> new LongAdder()).increment();
+    }
+
+    /// Anzahl der gezählten, aber noch nicht in die DB geschriebenen Aufrufe.
+    ///
+    /// @return Anzahl der noch nicht geschriebenen Aufrufe
+    public long backlog() {
+        return counters.values().stream().mapToLong(LongAdder::sum).sum() +
+            retired.values().stream().mapToLong(Retired::pending).sum();
+    }
+
+    /// Die aufgelaufenen Aufrufe in die DB schreiben. Schlägt das Schreiben fehl, werden die Differenzen wieder
+    /// zu den Zählern addiert und beim nächsten Mal erneut geschrieben.
+    @Scheduled(fixedDelayString = "${app.views.flush-interval:PT5S}")
+    @PreDestroy
+    public void flush() {
+        final var deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        getLogger().debug("flush: {} JobOffers", deltas.size());
+        try {
+            repo.addViews(deltas);
+        } catch (final DataAccessException ex) {
+            getLogger().warn("flush: Aufrufe von {} JobOffers nicht geschrieben: {}", deltas.size(), ex.getMessage());
+            deltas.forEach((id, delta) -> counters.computeIfAbsent(id, _ -> new LongAdder()).add(delta));
+        }
+    }
+
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        Gauge.builder(BACKLOG_GAUGE, this, ViewCounter::backlog)
+            .description("Anzahl der gezaehlten, aber noch nicht in die DB geschriebenen Aufrufe von JobOffers")
+            .register(registry);
+    }
+
+    // Ein Zähler mit Aufrufen wird durch einen neuen ersetzt, ein Zähler ohne Aufrufe wird entfernt, damit die Map
+    // nicht mit jeder jemals aufgerufenen ID wächst. Der alte Zähler wird nicht zurückgesetzt, weil reset() bei
+    // gleichzeitigen Aufrufen Werte verlieren kann. Stattdessen wird sein Stand gemerkt und beim nächsten Auslesen
+    // die Differenz übernommen, d.h. auch Aufrufe, die den alten Zähler kurz vor dem Ersetzen noch erhalten haben.
+    private synchronized Map<UUID, Long> drain() {
+        final var deltas = new HashMap<UUID, Long>();
+        retired.forEach((id, old) -> addDelta(deltas, id, old.pending()));
+
+        final var nowRetired = new HashMap<UUID, Retired>();
+        counters.forEach((id, counter) -> {
+            final var sum = counter.sum();
+            final var replaced = sum == 0L
+                ? counters.remove(id, counter)
+                : counters.replace(id, counter, new LongAdder());
+            if (replaced) {
+                addDelta(deltas, id, sum);
+                nowRetired.put(id, new Retired(counter, sum));
+            }
+        });
+        retired = nowRetired;
+        return deltas;
+    }
+
+    private static void addDelta(final Map<UUID, Long> deltas, final UUID id, final long delta) {
+        if (delta > 0L) {
+            deltas.merge(id, delta, Long::sum);
+        }
+    }
+
+    private Logger getLogger() {
+        return logger.orElseSet(() -> LoggerFactory.getLogger(ViewCounter.class));
+    }
+
+    /// Ein ersetzter Zähler und sein Stand, der bereits zum Schreiben übernommen wurde.
+    ///
+    /// @param counter Der ersetzte Zähler
+    /// @param written Bereits übernommene Aufrufe
+    private record Retired(LongAdder counter, long written) {
+        long pending() {
+            return counter.sum() - written;
+        }
+    }
+}
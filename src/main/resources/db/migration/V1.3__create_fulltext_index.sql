@@ -0,0 +1,18 @@
+SET default_tablespace = jobconnectspace;
+
+-- Volltextsuche ueber die Textfelder einer Stellenbeschreibung
+-- Die Konfiguration 'simple' ist IMMUTABLE (Voraussetzung fuer eine generierte Spalte) und verzichtet auf Stemming,
+-- weil die Beschreibungen sowohl deutsch als auch englisch sind.
+-- Gewichtung fuer ts_rank: Titel (A) vor Zusammenfassung (B) vor Aufgaben und Anforderungen (C)
+ALTER TABLE job_description ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(summary, '')), 'B') ||
+        setweight(to_tsvector('simple', coalesce(responsibilities, '')), 'C') ||
+        setweight(to_tsvector('simple', coalesce(requirements, '')), 'C')
+    ) STORED;
+
+-- Abfrage z.B. mit
+--  EXPLAIN ANALYZE
+--  SELECT id FROM job_description WHERE search_vector @@ websearch_to_tsquery('simple', 'java');
+CREATE INDEX IF NOT EXISTS job_description_search_vector_idx ON job_description USING gin (search_vector);
@@ -0,0 +1,11 @@
+SET default_tablespace = jobconnectspace;
+
+-- pg_trgm ist ab PostgreSQL 13 eine "trusted extension", d.h. der DB-Owner benoetigt keine Superuser-Rechte
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Teilstring-Suche, case-insensitive: lower(company) LIKE '%teil%'
+CREATE INDEX IF NOT EXISTS joboffer_company_trgm_idx ON joboffer USING gin (lower(company) gin_trgm_ops);
+
+-- Praefix-Suche, case-insensitive: lower(company) LIKE 'praefix%'
+-- text_pattern_ops, damit der Index unabhaengig von der Collation der DB fuer LIKE genutzt werden kann
+CREATE INDEX IF NOT EXISTS joboffer_company_lower_idx ON joboffer (lower(company) text_pattern_ops);
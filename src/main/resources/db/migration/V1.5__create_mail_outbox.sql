@@ -0,0 +1,20 @@
+SET default_tablespace = jobconnectspace;
+
+-- Transactional Outbox fuer Emails: wird in derselben Transaktion wie das neue JobOffer geschrieben
+-- und von der Klasse MailDispatcher blockweise abgearbeitet.
+CREATE TABLE IF NOT EXISTS mail_outbox (
+    id              UUID PRIMARY KEY,
+    joboffer_id     UUID NOT NULL,
+    recipient       TEXT NOT NULL,
+    subject         TEXT NOT NULL,
+    plain_text      TEXT NOT NULL,
+    html_text       TEXT NOT NULL,
+    status          TEXT NOT NULL DEFAULT 'PENDING' CHECK (status IN ('PENDING', 'DEAD')),
+    attempts        INTEGER NOT NULL DEFAULT 0 CHECK (attempts >= 0),
+    next_attempt_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now(),
+    last_error      TEXT,
+    created         TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT now()
+);
+
+-- Nur die noch zu sendenden Emails, d.h. ohne Dead Letters
+CREATE INDEX IF NOT EXISTS mail_outbox_due_idx ON mail_outbox(next_attempt_at) WHERE status = 'PENDING';
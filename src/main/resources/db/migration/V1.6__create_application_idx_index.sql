@@ -0,0 +1,6 @@
+SET default_tablespace = jobconnectspace;
+
+-- Keyset-Pagination fuer GET /api/{id}/applications: WHERE joboffer_id = ? AND idx > ? ORDER BY idx LIMIT ?
+-- Der zusammengesetzte Index ersetzt den Index nur fuer joboffer_id, weil joboffer_id dessen Praefix ist.
+CREATE INDEX IF NOT EXISTS application_joboffer_idx_idx ON application(joboffer_id, idx);
+DROP INDEX IF EXISTS application_joboffer_id_idx;
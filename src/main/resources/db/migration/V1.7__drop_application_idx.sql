@@ -0,0 +1,9 @@
+SET default_tablespace = jobconnectspace;
+
+-- Die Bewerbungen eines JobOffers sind nach (application_date, id) sortiert statt nach der Position idx.
+-- Eine neue Bewerbung ist dadurch ein einzelnes INSERT, ohne die Positionen der anderen Bewerbungen zu aendern.
+-- Die IDs sind UUIDv7, d.h. bei gleichem Datum entspricht die Sortierung der Reihenfolge des Einfuegens.
+CREATE INDEX IF NOT EXISTS application_joboffer_date_idx ON application(joboffer_id, application_date, id);
+DROP INDEX IF EXISTS application_joboffer_idx_idx;
+ALTER TABLE application DROP COLUMN IF EXISTS idx;
+ALTER TABLE application ALTER COLUMN joboffer_id SET NOT NULL;
@@ -0,0 +1,10 @@
+SET default_tablespace = jobconnectspace;
+
+-- Fachlicher Schluessel (company, title) eines JobOffers: Der Titel steht in job_description und wird deshalb als
+-- title_key in joboffer redundant gespeichert. Der Titel einer Stellenbeschreibung wird beim Aktualisieren eines
+-- JobOffers nicht geaendert, d.h. title_key wird nur beim INSERT gesetzt, siehe Entity-Klasse JobOffer.
+-- Die Eindeutigkeit prueft die DB beim INSERT statt einer vorherigen Query mit JOIN, auch bei parallelen Requests.
+ALTER TABLE joboffer ADD COLUMN IF NOT EXISTS title_key TEXT;
+UPDATE joboffer j SET title_key = d.title FROM job_description d WHERE d.id = j.job_description_id;
+ALTER TABLE joboffer ALTER COLUMN title_key SET NOT NULL;
+ALTER TABLE joboffer ADD CONSTRAINT joboffer_company_title_key UNIQUE (company, title_key);
@@ -0,0 +1,8 @@
+SET default_tablespace = jobconnectspace;
+
+-- Beim Loeschen eines JobOffers loescht die DB die Bewerbungen mit, d.h. ein einziges DELETE fuer JobOffer und
+-- Bewerbungen, ohne die Bewerbungen vorher zu laden, siehe Klasse JobOfferDeleteRepository. Fuer das Loeschen der
+-- Bewerbungen eines JobOffers gibt es den Index application_joboffer_date_idx.
+ALTER TABLE application DROP CONSTRAINT IF EXISTS application_joboffer_id_fkey;
+ALTER TABLE application ADD CONSTRAINT application_joboffer_id_fkey
+    FOREIGN KEY (joboffer_id) REFERENCES joboffer(id) ON DELETE CASCADE;
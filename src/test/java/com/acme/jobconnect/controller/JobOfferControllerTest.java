@@ -30,6 +30,7 @@ import org.springframework.web.client.RestClient;
 import org.springframework.web.client.support.RestClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
 import org.springframework.web.util.UriComponentsBuilder;
+import tools.jackson.dataformat.cbor.CBORMapper;
 import static com.acme.jobconnect.config.DevConfig.DEV;
 import static com.acme.jobconnect.controller.Constants.API_PATH;
 import static com.acme.jobconnect.controller.TestConstants.ADMIN_AUTH;
@@ -41,8 +42,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.ThrowableAssert.catchThrowableOfType;
 import static org.junit.jupiter.api.condition.JRE.JAVA_25;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.NOT_MODIFIED;
+import static org.springframework.http.MediaType.APPLICATION_CBOR;
 
 @Tag("integration")
 @Tag("rest")
@@ -68,6 +71,14 @@ class JobOfferControllerTest {
     private static final String ID_VORHANDEN = "00000000-0000-0000-0000-000000000001";
     private static final String ID_VORHANDEN_20 = "00000000-0000-0000-0000-000000000020";
     private static final String ID_NICHT_VORHANDEN = "ffffffff-ffff-ffff-ffff-ffffffffffff";
+    private static final String ID_MIT_BEWERBUNGEN = "00000000-0000-0000-0000-000000000000";
+
+    // Base64URL von "viewscount=s1&id=u00000000-0000-0000-0000-000000000001"
+    private static final String CURSOR_UNBEKANNTER_SCHLUESSEL =
+        "dmlld3Njb3VudD1zMSZpZD11MDAwMDAwMDAtMDAwMC0wMDAwLTAwMDAtMDAwMDAwMDAwMDAx";
+    // Base64URL von "publicationdate=sgestern&id=u00000000-0000-0000-0000-000000000001"
+    private static final String CURSOR_FALSCHER_TYP =
+        "cHVibGljYXRpb25kYXRlPXNnZXN0ZXJuJmlkPXUwMDAwMDAwMC0wMDAwLTAwMDAtMDAwMC0wMDAwMDAwMDAwMDE";
 
     private static final String COMPANY_1 = "MediaGroup";
     private static final String COMPANY_2 = "TechCorp GmbH";
@@ -125,6 +136,113 @@ class JobOfferControllerTest {
             .isNotEmpty();
     }
 
+    @Test
+    @DisplayName("Suche ohne und mit Aufgaben und Anforderungen der Stellenbeschreibung")
+    void getDetails() {
+        // given
+        final MultiValueMap<@NonNull String, String> ohneDetails = MultiValueMap.fromSingleValue(Map.of());
+        final MultiValueMap<@NonNull String, String> mitDetails =
+            MultiValueMap.fromSingleValue(Map.of("details", "true"));
+
+        // when
+        final var jobOffersOhneDetails = jobOfferRepo.get(ohneDetails);
+        final var jobOffersMitDetails = jobOfferRepo.get(mitDetails);
+
+        // then
+        softly.assertThat(jobOffersOhneDetails.content())
+            .isNotEmpty()
+            .allSatisfy(jobOffer -> {
+                assertThat(jobOffer.description().title()).isNotNull();
+                assertThat(jobOffer.description().responsibilities()).isNull();
+                assertThat(jobOffer.description().requirements()).isNull();
+            });
+        softly.assertThat(jobOffersMitDetails.content())
+            .isNotEmpty()
+            .allSatisfy(jobOffer -> {
+                assertThat(jobOffer.description().responsibilities()).isNotNull();
+                assertThat(jobOffer.description().requirements()).isNotNull();
+            });
+    }
+
+    @Test
+    @DisplayName("Suche mit ETag und If-None-Match")
+    void getPageNotModified() {
+        // given
+        final MultiValueMap<@NonNull String, String> suchparameter =
+            MultiValueMap.fromSingleValue(Map.of("company", COMPANY_1));
+        final var response = jobOfferRepo.getPage(suchparameter, "\"0\"");
+        final var eTag = response.getHeaders().getETag();
+        assertThat(eTag).isNotNull();
+
+        // when
+        final var responseNotModified = jobOfferRepo.getPage(suchparameter, eTag);
+
+        // then
+        softly.assertThat(response.getBody()).isNotNull();
+        softly.assertThat(responseNotModified.getStatusCode()).isEqualTo(NOT_MODIFIED);
+        softly.assertThat(responseNotModified.getHeaders().getETag()).isEqualTo(eTag);
+    }
+
+    @Test
+    @DisplayName("Suche mit CBOR als Format des Response-Bodys")
+    void getCbor() {
+        // given
+        final MultiValueMap<@NonNull String, String> suchparameter =
+            MultiValueMap.fromSingleValue(Map.of("company", COMPANY_1));
+
+        // when
+        final var response = jobOfferRepo.getCbor(suchparameter);
+
+        // then
+        softly.assertThat(response.getHeaders().getContentType()).isEqualTo(APPLICATION_CBOR);
+        final var body = response.getBody();
+        assertThat(body).isNotNull();
+        final var content = CBORMapper.shared().readTree(body).get("content");
+        softly.assertThat(content).isNotEmpty();
+        softly.assertThat(content.get(0).get("company").asString()).containsIgnoringCase(COMPANY_1);
+    }
+
+    @Test
+    @DisplayName("Suche mit ausgewaehlten Attributen (fields)")
+    void getFields() {
+        // given
+        final MultiValueMap<@NonNull String, String> suchparameter =
+            MultiValueMap.fromSingleValue(Map.of("fields", "company,title"));
+
+        // when
+        final var jobOffers = jobOfferRepo.get(suchparameter);
+
+        // then
+        softly.assertThat(jobOffers.content())
+            .isNotEmpty()
+            .allSatisfy(jobOffer -> {
+                assertThat(jobOffer.id()).isNotNull();
+                assertThat(jobOffer.company()).isNotNull();
+                assertThat(jobOffer.publicationdate()).isNull();
+                assertThat(jobOffer.status()).isNull();
+                assertThat(jobOffer.description()).isNotNull();
+                assertThat(jobOffer.description().title()).isNotNull();
+                assertThat(jobOffer.description().summary()).isNull();
+            });
+    }
+
+    @Test
+    @DisplayName("Suche mit unbekanntem Attribut in fields")
+    void getFieldsUngueltig() {
+        // given
+        final MultiValueMap<@NonNull String, String> suchparameter =
+            MultiValueMap.fromSingleValue(Map.of("fields", "company,gibtEsNicht"));
+
+        // when
+        final var exception = catchThrowableOfType(
+            HttpClientErrorException.BadRequest.class,
+            () -> jobOfferRepo.get(suchparameter)
+        );
+
+        // then
+        assertThat(exception.getStatusCode()).isEqualTo(BAD_REQUEST);
+    }
+
     @ParameterizedTest(name = "[{index}] Search by query params: id={0}")
     @MethodSource("queryParamsProvider")
     @DisplayName("Search by query params")
@@ -140,6 +258,147 @@ class JobOfferControllerTest {
             .isNotEmpty();
     }
 
+    @Test
+    @DisplayName("Suche mit Keyset-Pagination ueber zwei Fenster")
+    void getWindow() {
+        // given
+        final var suchparameter = new LinkedMultiValueMap<@NonNull String, String>();
+        suchparameter.add("cursor", "");
+        suchparameter.add("size", "2");
+        suchparameter.add("count", "true");
+
+        // when
+        final var first = jobOfferRepo.getWindow(suchparameter);
+        final var next = first.next();
+        assertThat(next).isNotNull();
+        suchparameter.set("cursor", next);
+        suchparameter.remove("count");
+        final var second = jobOfferRepo.getWindow(suchparameter);
+
+        // then
+        softly.assertThat(first.content()).hasSize(2);
+        softly.assertThat(first.total()).isNotNull();
+        softly.assertThat(second.content()).isNotEmpty();
+        softly.assertThat(second.total()).isNull();
+        softly.assertThat(second.content())
+            .extracting(JobOfferWithoutApplications::id)
+            .doesNotContainAnyElementsOf(first.content().stream().map(JobOfferWithoutApplications::id).toList());
+    }
+
+    @Test
+    @DisplayName("Keyset-Pagination mit Parametern der Seiten-Pagination und ungueltiger Fenstergroesse")
+    void getWindowOhneSuchkriterien() {
+        // given
+        final var suchparameter = new LinkedMultiValueMap<@NonNull String, String>();
+        suchparameter.add("cursor", "");
+        suchparameter.add("page", "0");
+        suchparameter.add("details", "true");
+        suchparameter.add("size", "0");
+
+        // when
+        final var window = jobOfferRepo.getWindow(suchparameter);
+
+        // then
+        softly.assertThat(window.content()).hasSize(1);
+        softly.assertThat(window.next()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("Keyset-Pagination mit ausgewaehlten Attributen ueber zwei Fenster")
+    void getWindowMitFields() {
+        // given
+        final var suchparameter = new LinkedMultiValueMap<@NonNull String, String>();
+        suchparameter.add("cursor", "");
+        suchparameter.add("size", "2");
+        suchparameter.add("fields", "title");
+
+        // when
+        final var first = jobOfferRepo.getWindow(suchparameter);
+        final var next = first.next();
+        assertThat(next).isNotNull();
+        suchparameter.set("cursor", next);
+        final var second = jobOfferRepo.getWindow(suchparameter);
+
+        // then
+        softly.assertThat(first.content())
+            .hasSize(2)
+            .allSatisfy(jobOffer -> {
+                assertThat(jobOffer.publicationdate()).isNull();
+                assertThat(jobOffer.company()).isNull();
+                assertThat(jobOffer.description()).isNotNull();
+            });
+        softly.assertThat(second.content())
+            .isNotEmpty()
+            .extracting(JobOfferWithoutApplications::id)
+            .doesNotContainAnyElementsOf(first.content().stream().map(JobOfferWithoutApplications::id).toList());
+    }
+
+    @ParameterizedTest(name = "[{index}] Keyset-Pagination mit manipuliertem Cursor: {0}")
+    @ValueSource(strings = {CURSOR_UNBEKANNTER_SCHLUESSEL, CURSOR_FALSCHER_TYP})
+    @DisplayName("Keyset-Pagination mit manipuliertem Cursor")
+    void getWindowCursorUngueltig(final String cursor) {
+        // given
+        final MultiValueMap<@NonNull String, String> suchparameter =
+            MultiValueMap.fromSingleValue(Map.of("cursor", cursor));
+
+        // when
+        final var exception = catchThrowableOfType(
+            HttpClientErrorException.BadRequest.class,
+            () -> jobOfferRepo.getWindow(suchparameter)
+        );
+
+        // then
+        assertThat(exception.getStatusCode()).isEqualTo(BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("Bewerbungen zu einer JobOffer mit Keyset-Pagination ueber zwei Fenster")
+    void getApplications() {
+        // given
+        final var suchparameter = new LinkedMultiValueMap<@NonNull String, String>();
+        suchparameter.add("size", "1");
+
+        // when
+        final var first = jobOfferRepo.getApplications(ID_MIT_BEWERBUNGEN, suchparameter, ADMIN_AUTH);
+        final var next = first.next();
+        assertThat(next).isNotNull();
+        suchparameter.add("cursor", next);
+        final var second = jobOfferRepo.getApplications(ID_MIT_BEWERBUNGEN, suchparameter, ADMIN_AUTH);
+
+        // then
+        softly.assertThat(first.content()).hasSize(1);
+        softly.assertThat(second.content()).hasSize(1);
+        softly.assertThat(second.next()).isNull();
+        softly.assertThat(second.content().getFirst().id()).isNotEqualTo(first.content().getFirst().id());
+        softly.assertThat(second.content().getFirst().date()).isAfterOrEqualTo(first.content().getFirst().date());
+    }
+
+    @Test
+    @DisplayName("Bewerbungen zu einer nicht-vorhandenen JobOffer")
+    void getApplicationsNichtVorhanden() {
+        // when
+        final var exception = catchThrowableOfType(
+            HttpClientErrorException.NotFound.class,
+            () -> jobOfferRepo.getApplications(ID_NICHT_VORHANDEN, new LinkedMultiValueMap<>(), ADMIN_AUTH)
+        );
+
+        // then
+        assertThat(exception.getStatusCode()).isEqualTo(NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("Export aller JobOffers als NDJSON")
+    void export() {
+        // when
+        final var ndjson = jobOfferRepo.export(ADMIN_AUTH);
+
+        // then
+        assertThat(ndjson).isNotBlank();
+        softly.assertThat(ndjson.lines().toList())
+            .isNotEmpty()
+            .allSatisfy(line -> assertThat(line).startsWith("{").contains("\"id\":").endsWith("}"));
+    }
+
     @Nested
     @DisplayName("REST-Schnittstelle fuer die Suche anhand der ID")
     class GetById {
@@ -155,7 +414,7 @@ class JobOfferControllerTest {
             assertThat(jobOffer).isNotNull();
             softly.assertThat(jobOffer.id()).isEqualTo(UUID.fromString(id));
             softly.assertThat(jobOffer.company()).isNotNull();
-            softly.assertThat(jobOffer.description().getTitle()).isNotNull();
+            softly.assertThat(jobOffer.description().title()).isNotNull();
         }
 
         @ParameterizedTest(name = "[{index}] Suche mit vorhandener ID und vorhandener Version: id={0}, version={1}")
@@ -215,7 +474,10 @@ class JobOfferControllerTest {
                 ),
 
                 // 4. Nur Company
-                Map.of("company", EXISTING_COMPANY)
+                Map.of("company", EXISTING_COMPANY),
+
+                // 5. Volltextsuche in der Stellenbeschreibung
+                Map.of("q", "java")
             )
             // Hier wandeln wir die einfache Map in die Spring MultiValueMap um:
             .map(params -> {
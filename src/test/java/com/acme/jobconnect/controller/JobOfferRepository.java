@@ -1,5 +1,8 @@
 package com.acme.jobconnect.controller;
 
+import com.acme.jobconnect.repository.ApplicationSummary;
+import java.util.List;
+import java.util.Map;
 import org.springframework.http.ResponseEntity;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -23,15 +26,57 @@ interface JobOfferRepository {
         @RequestHeader(AUTHORIZATION) String authorization
     );
 
+    @GetExchange(url = "/{id}?applications=true", version = VERSION_2)
+    ResponseEntity<Void> getByIdMitBewerbungen(
+        @PathVariable String id,
+        @RequestHeader(IF_NONE_MATCH) String version,
+        @RequestHeader(AUTHORIZATION) String authorization
+    );
+
     @GetExchange(url = "/{id}", version = VERSION_2)
     ResponseEntity<JobOfferWithoutApplications> getByIdOhneVersion(@PathVariable String id, @RequestHeader(AUTHORIZATION) String authorization);
 
     @GetExchange(version = VERSION_2)
     JobOfferWithoutApplicationsPage get(@RequestParam MultiValueMap<String, String> suchparameter);
 
+    @GetExchange(version = VERSION_2)
+    ResponseEntity<JobOfferWithoutApplicationsPage> getPage(
+        @RequestParam MultiValueMap<String, String> suchparameter,
+        @RequestHeader(IF_NONE_MATCH) String eTag
+    );
+
+    @GetExchange(accept = "application/cbor", version = VERSION_2)
+    ResponseEntity<byte[]> getCbor(@RequestParam MultiValueMap<String, String> suchparameter);
+
+    @GetExchange(version = VERSION_2)
+    WindowModel<JobOfferWithoutApplications> getWindow(@RequestParam MultiValueMap<String, String> suchparameter);
+
+    @GetExchange(url = "/{id}/applications", version = VERSION_2)
+    WindowModel<ApplicationSummary> getApplications(
+        @PathVariable String id,
+        @RequestParam MultiValueMap<String, String> suchparameter,
+        @RequestHeader(AUTHORIZATION) String authorization
+    );
+
+    @GetExchange(url = "/export", accept = "application/x-ndjson", version = VERSION_2)
+    String export(@RequestHeader(AUTHORIZATION) String authorization);
+
     @PostExchange(version = VERSION_2)
     ResponseEntity<Void> post(@RequestBody JobOfferDTO jobOffer);
 
+    @PostExchange(url = "/batch", version = VERSION_2)
+    List<BatchItemModel> postBatch(
+        @RequestBody List<JobOfferDTO> jobOffers,
+        @RequestHeader(AUTHORIZATION) String authorization
+    );
+
+    @PostExchange(url = "/{id}/applications", version = VERSION_2)
+    ResponseEntity<Void> postApplication(
+        @PathVariable String id,
+        @RequestBody ApplicationDTO application,
+        @RequestHeader(AUTHORIZATION) String authorization
+    );
+
     @PutExchange(url = "/{id}", version = VERSION_2)
     ResponseEntity<Void> put(
         @PathVariable String id,
@@ -45,9 +90,22 @@ interface JobOfferRepository {
         @RequestBody JobOfferDTO jobOffer
     );
 
+    @PatchExchange(url = "/{id}", contentType = "application/merge-patch+json", version = VERSION_2)
+    ResponseEntity<Void> patch(
+        @PathVariable String id,
+        @RequestBody Map<String, Object> patch,
+        @RequestHeader(IF_MATCH) String version
+    );
+
     @DeleteExchange(url = "/{id}", version = VERSION_2)
     ResponseEntity<Void> deleteById(@PathVariable String id, @RequestHeader(AUTHORIZATION) String authorization);
 
+    @DeleteExchange(version = VERSION_2)
+    ResponseEntity<Void> deleteExpired(
+        @RequestParam MultiValueMap<String, String> suchparameter,
+        @RequestHeader(AUTHORIZATION) String authorization
+    );
+
     @GetExchange(url = "/company/{company}", version = VERSION_2)
     JobOfferWithoutApplicationsPage getByCompany(@PathVariable String company);
 }
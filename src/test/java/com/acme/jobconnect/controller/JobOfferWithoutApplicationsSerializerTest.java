@@ -0,0 +1,86 @@
+package com.acme.jobconnect.controller;
+
+import com.acme.jobconnect.repository.JobDescriptionSummary;
+import com.acme.jobconnect.repository.JobOfferField;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.module.SimpleModule;
+import static com.acme.jobconnect.entity.EmploymentType.FULLTIME;
+import static com.acme.jobconnect.entity.JobOfferStatus.ACTIVE;
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.condition.JRE.JAVA_25;
+
+@Tag("unit")
+@Tag("serializer")
+@DisplayName("Serializer fuer JobOffers ohne Applications")
+@EnabledForJreRange(min = JAVA_25, max = JAVA_25)
+class JobOfferWithoutApplicationsSerializerTest {
+    // wie spring.jackson.default-property-inclusion in application.yml
+    private static final JsonMapper REFLECTIVE_MAPPER = JsonMapper.builder()
+        .changeDefaultPropertyInclusion(incl -> incl.withValueInclusion(NON_NULL))
+        .build();
+
+    private static final JsonMapper STREAMING_MAPPER = REFLECTIVE_MAPPER.rebuild()
+        .addModule(new SimpleModule().addSerializer(
+            JobOfferWithoutApplications.class,
+            new JobOfferWithoutApplicationsSerializer()
+        ))
+        .build();
+
+    @Test
+    @DisplayName("Gleiches JSON wie bei der reflektiven Serialisierung")
+    void serialize() {
+        // given
+        final var jobOffer = createJobOffer();
+
+        // when
+        final var json = STREAMING_MAPPER.writeValueAsString(jobOffer);
+
+        // then
+        assertThat(json).isEqualTo(REFLECTIVE_MAPPER.writeValueAsString(jobOffer));
+    }
+
+    @Test
+    @DisplayName("Nicht ausgewaehlte Attribute fehlen im JSON")
+    void serializeFields() {
+        // given
+        final var jobOffer = createJobOffer().narrow(EnumSet.of(JobOfferField.COMPANY, JobOfferField.TITLE));
+
+        // when
+        final var json = STREAMING_MAPPER.writeValueAsString(jobOffer);
+
+        // then
+        assertThat(json)
+            .isEqualTo(REFLECTIVE_MAPPER.writeValueAsString(jobOffer))
+            .doesNotContain("status", "salary");
+    }
+
+    private static JobOfferWithoutApplications createJobOffer() {
+        return new JobOfferWithoutApplications(
+            randomUUID(),
+            "Acme",
+            LocalDate.of(2026, 5, 1),
+            LocalDate.of(2026, 8, 1),
+            42,
+            ACTIVE,
+            new JobDescriptionSummary(
+                randomUUID(),
+                "Junior Developer",
+                "Karlsruhe",
+                new BigDecimal("50000.00"),
+                "Entwicklung von Microservices mit Spring Boot",
+                FULLTIME,
+                null,
+                "Java"
+            )
+        );
+    }
+}
@@ -4,6 +4,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import org.assertj.core.api.SoftAssertions;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
@@ -20,6 +21,8 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.context.ApplicationContext;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.support.RestClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
@@ -38,10 +41,17 @@ import static com.acme.jobconnect.entity.EmploymentType.PARTTIME;
 import static com.acme.jobconnect.entity.JobOfferStatus.ACTIVE;
 import static java.math.BigDecimal.ONE;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.junit.jupiter.api.condition.JRE.JAVA_25;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.CREATED;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.NOT_MODIFIED;
 import static org.springframework.http.HttpStatus.NO_CONTENT;
+import static org.springframework.http.HttpStatus.OK;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
+import static org.springframework.http.HttpStatus.UNPROCESSABLE_CONTENT;
 
 @Tag("integration")
 @Tag("rest")
@@ -54,6 +64,7 @@ import static org.springframework.http.HttpStatus.NO_CONTENT;
 @SuppressWarnings({"WriteTag", "PMD.AtLeastOneConstructor", "PMD.AvoidDuplicateLiterals"})
 class JobOfferWriteControllerTest {
     private static final String NEW_COMPANY = "Mercedes-Benz AG";
+    private static final String BATCH_COMPANY = "Batch Import AG";
     private static final String NEW_PUBLICATION_DATE = "2026-05-01";
     private static final String NEW_EXPIRATION_DATE = "2026-09-01";
 
@@ -62,6 +73,8 @@ class JobOfferWriteControllerTest {
     private static final String APPLICATION_DATE = "2025-10-20";
 
     private static final String TITLE = "Junior Developer";
+    private static final String COMPANY_VORHANDEN = "TechCorp GmbH";
+    private static final String TITLE_VORHANDEN = "Backend Java Developer";
     private static final String LOCATION = "Karlsruhe";
     private static final String SUMMARY = "Support our developer team";
     private static final String RESPONSIBILITIES = "Key Responsibilities include assisting senior staff with code development in Java/Spring Boot, participating in code reviews, writing unit and integration tests, debugging applications, and maintaining technical documentation. You will also contribute to deployment automation tasks. We expect proactive communication and problem-solving skills.";
@@ -69,6 +82,9 @@ class JobOfferWriteControllerTest {
 
     private static final String ID_VORHANDEN = "00000000-0000-0000-0000-000000000001";
     private static final String ID_NICHT_VORHANDEN = "ffffffff-ffff-ffff-ffff-ffffffffffff";
+    private static final String ID_PATCH = "00000000-0000-0000-0000-000000000040";
+    private static final String ID_BEWERBUNG = "00000000-0000-0000-0000-000000000030";
+    private static final String ETAG_UNBEKANNT = "\"-1\"";
 
     private final JobOfferRepository jobOfferRepo;
 
@@ -144,6 +160,240 @@ class JobOfferWriteControllerTest {
                 .isInstanceOf(URI.class);
             assertThat(location.toString()).matches(".*/" + ID_PATTERN + '$');
         }
+
+        @ParameterizedTest(name = "[{index}] Neuanlegen mit vorhandenem Titel: company={0}, title={1}")
+        @CsvSource(COMPANY_VORHANDEN + ',' + TITLE_VORHANDEN)
+        @DisplayName("Neuanlegen mit vorhandenem Titel der Firma")
+        void postVorhanden(final String company, final String title) {
+            // given
+            final var jobOfferDTO = new JobOfferDTO(
+                company,
+                null,
+                LocalDate.parse(NEW_EXPIRATION_DATE),
+                0,
+                ACTIVE,
+                List.of(),
+                new JobDescriptionDTO(title, LOCATION, ONE, SUMMARY, RESPONSIBILITIES, REQUIREMENTS, PARTTIME)
+            );
+
+            // when
+            final var exc = catchThrowableOfType(
+                HttpClientErrorException.Conflict.class,
+                () -> jobOfferRepo.post(jobOfferDTO)
+            );
+
+            // then
+            assertThat(exc).isNotNull();
+            assertThat(exc.getStatusCode()).isEqualTo(CONFLICT);
+        }
+    }
+
+    @Nested
+    @DisplayName("REST-Schnittstelle fuer POST im Batch")
+    class CreateBatch {
+        @ParameterizedTest(name = "[{index}] Neuanlegen im Batch: company={0}, title={1}")
+        @CsvSource(BATCH_COMPANY + ',' + TITLE)
+        @DisplayName("Neuanlegen im Batch mit Duplikat und ungueltigem JobOffer")
+        void postBatch(final String company, final String title) {
+            // given
+            final var jobOfferDTO = new JobOfferDTO(
+                company,
+                null,
+                LocalDate.parse(NEW_EXPIRATION_DATE),
+                0,
+                ACTIVE,
+                List.of(),
+                new JobDescriptionDTO(title, LOCATION, ONE, SUMMARY, RESPONSIBILITIES, REQUIREMENTS, PARTTIME)
+            );
+            final var invalidDTO = new JobOfferDTO(
+                "?", null, LocalDate.parse(NEW_EXPIRATION_DATE), 0, ACTIVE, List.of(), null
+            );
+
+            // when
+            final var results = jobOfferRepo.postBatch(List.of(jobOfferDTO, jobOfferDTO, invalidDTO), ADMIN_AUTH);
+
+            // then
+            assertThat(results)
+                .extracting(BatchItemModel::status)
+                .containsExactly(CREATED.value(), CONFLICT.value(), UNPROCESSABLE_CONTENT.value());
+            softly.assertThat(results.getFirst().location()).matches(".*/" + ID_PATTERN + '$');
+            softly.assertThat(results.get(1).location()).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("REST-Schnittstelle fuer POST einer Bewerbung")
+    class CreateApplication {
+        @ParameterizedTest(name = "[{index}] Neue Bewerbung: id={0}")
+        @ValueSource(strings = ID_BEWERBUNG)
+        @DisplayName("Neue Bewerbung zu einem vorhandenen JobOffer")
+        void postApplication(final String id) {
+            // given
+            final var applicationDTO = new ApplicationDTO(
+                APPLICANT,
+                URI.create(RESUME_PATH),
+                null,
+                LocalDate.parse(APPLICATION_DATE),
+                List.of(),
+                APPLIED
+            );
+
+            // when
+            final var response = jobOfferRepo.postApplication(id, applicationDTO, ADMIN_AUTH);
+
+            // then
+            softly.assertThat(response.getStatusCode()).isEqualTo(CREATED);
+            final var location = response.getHeaders().getLocation();
+            assertThat(location).isNotNull();
+            assertThat(location.toString()).matches(".*/" + id + "/applications/" + ID_PATTERN + '$');
+        }
+
+        @ParameterizedTest(name = "[{index}] Bedingter GET nach neuer Bewerbung: id={0}")
+        @ValueSource(strings = ID_BEWERBUNG)
+        @DisplayName("Nach einer neuen Bewerbung liefert ein bedingter GET mit Bewerbungen nicht 304")
+        void getMitBewerbungenNachPostApplication(final String id) {
+            // given
+            final var eTag = jobOfferRepo.getByIdMitBewerbungen(id, ETAG_UNBEKANNT, ADMIN_AUTH)
+                .getHeaders()
+                .getETag();
+            assertThat(eTag).isNotNull();
+            assertThat(jobOfferRepo.getByIdMitBewerbungen(id, eTag, ADMIN_AUTH).getStatusCode())
+                .isEqualTo(NOT_MODIFIED);
+            final var applicationDTO = new ApplicationDTO(
+                APPLICANT,
+                URI.create(RESUME_PATH),
+                null,
+                LocalDate.parse(APPLICATION_DATE),
+                List.of(),
+                APPLIED
+            );
+            jobOfferRepo.postApplication(id, applicationDTO, ADMIN_AUTH);
+
+            // when
+            final var response = jobOfferRepo.getByIdMitBewerbungen(id, eTag, ADMIN_AUTH);
+
+            // then
+            softly.assertThat(response.getStatusCode()).isEqualTo(OK);
+            softly.assertThat(response.getHeaders().getETag()).isNotEqualTo(eTag);
+        }
+
+        @ParameterizedTest(name = "[{index}] Neue Bewerbung zu nicht-vorhandenem JobOffer: id={0}")
+        @ValueSource(strings = ID_NICHT_VORHANDEN)
+        @DisplayName("Neue Bewerbung zu einem nicht-vorhandenen JobOffer")
+        void postApplicationNichtVorhanden(final String id) {
+            // given
+            final var applicationDTO = new ApplicationDTO(
+                APPLICANT,
+                URI.create(RESUME_PATH),
+                null,
+                LocalDate.parse(APPLICATION_DATE),
+                List.of(),
+                APPLIED
+            );
+
+            // when
+            final var exception = catchThrowableOfType(
+                HttpClientErrorException.NotFound.class,
+                () -> jobOfferRepo.postApplication(id, applicationDTO, ADMIN_AUTH)
+            );
+
+            // then
+            assertThat(exception.getStatusCode()).isEqualTo(NOT_FOUND);
+        }
+    }
+
+    @Nested
+    @DisplayName("REST-Schnittstelle fuer PATCH")
+    class Patchen {
+        @ParameterizedTest(name = "[{index}] Status aendern mit JSON Merge Patch: id={0}")
+        @ValueSource(strings = ID_PATCH)
+        @DisplayName("Status eines vorhandenen JobOffers aendern")
+        void patch(final String id) {
+            // given
+            final var version = getVersion(id);
+            final var patch = Map.<String, Object>of("status", "DRAFT");
+
+            // when
+            final var response = jobOfferRepo.patch(id, patch, "\"" + version + '"');
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(NO_CONTENT);
+            assertThat(response.getHeaders().getETag()).isEqualTo("\"" + (version + 1) + '"');
+        }
+
+        @ParameterizedTest(name = "[{index}] Status aendern mit Name oder internem Wert: id={0}, status={1}")
+        @CsvSource({ID_PATCH + ",ACTIVE", ID_PATCH + ",A"})
+        @DisplayName("Status mit dem Namen oder dem internen Wert aendern")
+        void patchStatus(final String id, final String status) {
+            // given
+            final var version = getVersion(id);
+            final var patch = Map.<String, Object>of("status", status);
+
+            // when
+            final var response = jobOfferRepo.patch(id, patch, "\"" + version + '"');
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(NO_CONTENT);
+            assertThat(response.getHeaders().getETag()).isEqualTo("\"" + (version + 1) + '"');
+        }
+
+        @ParameterizedTest(name = "[{index}] Aendern mit veralteter Version: id={0}")
+        @ValueSource(strings = ID_PATCH)
+        @DisplayName("Aendern mit veralteter Version")
+        void patchVersionOutdated(final String id) {
+            // given
+            final var patch = Map.<String, Object>of("status", "ACTIVE");
+
+            // when
+            final var exception = catchThrowableOfType(
+                HttpClientErrorException.class,
+                () -> jobOfferRepo.patch(id, patch, "\"999\"")
+            );
+
+            // then
+            assertThat(exception.getStatusCode()).isEqualTo(PRECONDITION_FAILED);
+        }
+
+        @ParameterizedTest(name = "[{index}] Nicht aenderbares Attribut: id={0}")
+        @ValueSource(strings = ID_PATCH)
+        @DisplayName("Aendern eines nicht aenderbaren Attributs")
+        void patchNichtAenderbar(final String id) {
+            // given
+            final var patch = Map.<String, Object>of("viewscount", 5);
+
+            // when
+            final var exception = catchThrowableOfType(
+                HttpClientErrorException.class,
+                () -> jobOfferRepo.patch(id, patch, "\"0\"")
+            );
+
+            // then
+            assertThat(exception.getStatusCode()).isEqualTo(UNPROCESSABLE_CONTENT);
+        }
+
+        @ParameterizedTest(name = "[{index}] Aendern eines nicht-vorhandenen JobOffer: id={0}")
+        @ValueSource(strings = ID_NICHT_VORHANDEN)
+        @DisplayName("Aendern eines nicht-vorhandenen JobOffer")
+        void patchNichtVorhanden(final String id) {
+            // given
+            final var patch = Map.<String, Object>of("status", "ACTIVE");
+
+            // when
+            final var exception = catchThrowableOfType(
+                HttpClientErrorException.NotFound.class,
+                () -> jobOfferRepo.patch(id, patch, "\"0\"")
+            );
+
+            // then
+            assertThat(exception.getStatusCode()).isEqualTo(NOT_FOUND);
+        }
+
+        // Aktuelle Version aus dem ETag, damit die Tests in beliebiger Reihenfolge laufen koennen
+        private int getVersion(final String id) {
+            final var eTag = jobOfferRepo.getById(id, ETAG_UNBEKANNT, ADMIN_AUTH).getHeaders().getETag();
+            assertThat(eTag).isNotNull();
+            return Integer.parseInt(eTag.substring(1, eTag.length() - 1));
+        }
     }
 
     @Nested
@@ -170,5 +420,21 @@ class JobOfferWriteControllerTest {
             // then
             assertThat(response.getStatusCode()).isEqualTo(NO_CONTENT);
         }
+
+        @ParameterizedTest(name = "[{index}] Loeschen abgelaufener JobOffers: status={0}, expiredBefore={1}")
+        @CsvSource({"CLOSED,2000-01-01", "C,2000-01-01"})
+        @DisplayName("Loeschen abgelaufener JobOffers mit einem Status")
+        void deleteExpired(final String status, final String expiredBefore) {
+            // given
+            final var suchparameter = MultiValueMap.fromSingleValue(
+                Map.of("status", status, "expiredBefore", expiredBefore)
+            );
+
+            // when
+            final var response = jobOfferRepo.deleteExpired(suchparameter, ADMIN_AUTH);
+
+            // then
+            assertThat(response.getStatusCode()).isEqualTo(NO_CONTENT);
+        }
     }
 }
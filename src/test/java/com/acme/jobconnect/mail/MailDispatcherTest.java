@@ -0,0 +1,152 @@
+package com.acme.jobconnect.mail;
+
+import com.acme.jobconnect.entity.OutboxMail;
+import com.acme.jobconnect.repository.OutboxMailRepository;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.support.TransactionOperations;
+import static com.acme.jobconnect.entity.OutboxMailStatus.DEAD;
+import static com.acme.jobconnect.entity.OutboxMailStatus.PENDING;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.condition.JRE.JAVA_25;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+@Tag("mail-outbox")
+@DisplayName("Senden der Emails aus der Outbox")
+@ExtendWith(MockitoExtension.class)
+@EnabledForJreRange(min = JAVA_25, max = JAVA_25)
+class MailDispatcherTest {
+    private static final OutboxConfig OUTBOX_CONFIG = new OutboxConfig(
+        50,
+        3,
+        Duration.ofSeconds(30),
+        Duration.ofMinutes(1),
+        Duration.ofMinutes(5)
+    );
+
+    @Mock
+    private OutboxMailRepository outboxRepo;
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    private MailDispatcher dispatcher;
+
+    @BeforeEach
+    void beforeEach() {
+        final var mailConfig = new MailConfig("Theo Test <theo@test.de>", "Maxi Musterfrau <maxi.musterfrau@test.de>");
+        dispatcher = new MailDispatcher(
+            outboxRepo,
+            mailSender,
+            mailConfig,
+            OUTBOX_CONFIG,
+            TransactionOperations.withoutTransaction()
+        );
+    }
+
+    @Test
+    @DisplayName("Gesendete Emails werden aus der Outbox geloescht")
+    void dispatch() {
+        // given
+        final var mail = createOutboxMail(0);
+        when(outboxRepo.findDueForUpdate(any(Instant.class), anyInt())).thenReturn(List.of(mail));
+        when(mailSender.createMimeMessage()).thenReturn(createMimeMessage());
+
+        // when
+        final var sent = dispatcher.dispatch();
+
+        // then
+        assertThat(sent).isOne();
+        verify(mailSender).send(any(MimeMessage[].class));
+        verify(outboxRepo).deleteById(mail.getId());
+    }
+
+    @Test
+    @DisplayName("Nach einem Fehler wird die Email mit Backoff erneut eingeplant")
+    void dispatchFehler() {
+        // given
+        final var mail = createOutboxMail(0);
+        when(outboxRepo.findDueForUpdate(any(Instant.class), anyInt())).thenReturn(List.of(mail));
+        when(mailSender.createMimeMessage()).thenReturn(createMimeMessage());
+        doThrow(new MailSendException("Connection refused")).when(mailSender).send(any(MimeMessage[].class));
+        final var before = Instant.now();
+
+        // when
+        final var sent = dispatcher.dispatch();
+
+        // then
+        assertThat(sent).isZero();
+        assertThat(mail.getAttempts()).isOne();
+        assertThat(mail.getStatus()).isEqualTo(PENDING);
+        assertThat(mail.getLastError()).contains("Connection refused");
+        assertThat(mail.getNextAttemptAt()).isAfterOrEqualTo(before.plus(OUTBOX_CONFIG.initialBackoff()));
+        verify(outboxRepo).save(mail);
+        verify(outboxRepo, never()).deleteById(any());
+    }
+
+    @Test
+    @DisplayName("Nach dem letzten Versuch wird die Email als Dead Letter markiert")
+    void dispatchDeadLetter() {
+        // given
+        final var mail = createOutboxMail(OUTBOX_CONFIG.maxAttempts() - 1);
+        when(outboxRepo.findDueForUpdate(any(Instant.class), anyInt())).thenReturn(List.of(mail));
+        when(mailSender.createMimeMessage()).thenReturn(createMimeMessage());
+        doThrow(new MailSendException("Connection refused")).when(mailSender).send(any(MimeMessage[].class));
+
+        // when
+        dispatcher.dispatch();
+
+        // then
+        assertThat(mail.getAttempts()).isEqualTo(OUTBOX_CONFIG.maxAttempts());
+        assertThat(mail.getStatus()).isEqualTo(DEAD);
+        verify(outboxRepo).save(mail);
+    }
+
+    @Test
+    @DisplayName("Der Backoff verdoppelt sich bis zum Maximum")
+    void backoff() {
+        // when / then
+        assertThat(dispatcher.backoff(1)).isEqualTo(Duration.ofSeconds(30));
+        assertThat(dispatcher.backoff(2)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(dispatcher.backoff(3)).isEqualTo(Duration.ofMinutes(1));
+        assertThat(dispatcher.backoff(Integer.MAX_VALUE)).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    private OutboxMail createOutboxMail(final int attempts) {
+        final var mail = new OutboxMail(
+            randomUUID(),
+            "Maxi Musterfrau <maxi.musterfrau@test.de>",
+            "Neue JobOffer",
+            "Neue JobOffer: Junior Developer",
+            "<strong>Neuer JobOffer:</strong> <em>Junior Developer</em>"
+        );
+        mail.setId(randomUUID());
+        mail.setAttempts(attempts);
+        return mail;
+    }
+
+    private static MimeMessage createMimeMessage() {
+        return new MimeMessage(Session.getInstance(new Properties()));
+    }
+}
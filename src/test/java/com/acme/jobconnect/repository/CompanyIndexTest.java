@@ -0,0 +1,152 @@
+package com.acme.jobconnect.repository;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.hibernate.Cache;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+import static com.acme.jobconnect.config.DevConfig.DEV;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.condition.JRE.JAVA_25;
+
+/// Überprüfung mit `EXPLAIN`, dass die Suche nach dem Firmennamen die Indexe aus `V1.4__create_company_index.sql`
+/// verwendet. Untersucht wird das SQL, das _Hibernate_ für [JobOfferSummaryRepository] tatsächlich generiert und
+/// das mit einem [StatementInspector] mitgeschnitten wird. Voraussetzung ist der lokale PostgreSQL-Container aus
+/// `extras/compose/postgres`.
+@Tag("integration")
+@Tag("repository")
+@DisplayName("Indexe fuer die Suche nach dem Firmennamen")
+@SpringBootTest
+@ActiveProfiles(DEV)
+@Transactional
+@EnabledForJreRange(min = JAVA_25, max = JAVA_25)
+@SuppressWarnings({"WriteTag", "PMD.AtLeastOneConstructor"})
+class CompanyIndexTest {
+    private static final int PAGE_SIZE = 5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JobOfferSummaryRepository summaryRepo;
+    private final SpecificationBuilder specificationBuilder;
+    private final EntityManagerFactory entityManagerFactory;
+    private final RecordingStatementInspector inspector;
+
+    CompanyIndexTest(final ApplicationContext ctx) {
+        jdbcTemplate = ctx.getBean(JdbcTemplate.class);
+        summaryRepo = ctx.getBean(JobOfferSummaryRepository.class);
+        specificationBuilder = ctx.getBean(SpecificationBuilder.class);
+        entityManagerFactory = ctx.getBean(EntityManagerFactory.class);
+        inspector = ctx.getBean(RecordingStatementInspector.class);
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        // Die Testdaten sind so klein, dass der Planer sonst immer einen sequentiellen Scan waehlt.
+        // SET LOCAL gilt nur fuer die Transaktion des Tests.
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        // Ein Treffer im Query-Cache wuerde kein SQL an die DB schicken
+        entityManagerFactory.getCache().unwrap(Cache.class).evictQueryRegions();
+        inspector.clear();
+    }
+
+    @ParameterizedTest(name = "[{index}] Teilstring: teil={0}")
+    @CsvSource("tech")
+    @DisplayName("Teilstring des Firmennamens mit Trigramm-Index")
+    void contains(final String teil) {
+        // given
+        final var spec = specificationBuilder.build(Map.of("company", List.of(teil)));
+        summaryRepo.find(spec, PageRequest.of(0, PAGE_SIZE), JobOfferField.DEFAULT);
+
+        // when
+        final var plan = explain(LikePattern.contains(teil));
+
+        // then
+        assertThat(plan)
+            .contains("joboffer_company_trgm_idx")
+            .doesNotContain("Seq Scan on joboffer");
+    }
+
+    @ParameterizedTest(name = "[{index}] Praefix: prefix={0}")
+    @CsvSource("Tech")
+    @DisplayName("Praefix des Firmennamens mit Index fuer lower(company)")
+    void prefix(final String prefix) {
+        // given
+        summaryRepo.findByCompany(prefix, PageRequest.of(0, PAGE_SIZE), JobOfferField.DEFAULT);
+
+        // when
+        final var plan = explain(LikePattern.prefix(prefix));
+
+        // then
+        assertThat(plan)
+            .contains("joboffer_company_lower_idx")
+            .doesNotContain("joboffer_company_trgm_idx")
+            .doesNotContain("Seq Scan on joboffer");
+    }
+
+    // EXPLAIN fuer das mitgeschnittene SELECT: der 1. Parameter ist das Muster fuer LIKE, die uebrigen gehoeren zur
+    // Begrenzung der Zeilen durch die Pagination
+    private String explain(final String pattern) {
+        final var sql = inspector.getStatements()
+            .stream()
+            .filter(statement -> statement.startsWith("select") && statement.contains(" like "))
+            .filter(statement -> !statement.contains("count("))
+            .findFirst()
+            .orElseThrow();
+        final var parameterCount = sql.chars().filter(c -> c == '?').count();
+        final var args = new ArrayList<Object>();
+        args.add(pattern);
+        for (var i = 1; i < parameterCount; i++) {
+            args.add(PAGE_SIZE);
+        }
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args.toArray()));
+    }
+
+    /// [StatementInspector], der das von _Hibernate_ generierte SQL unverändert weitergibt und mitschneidet.
+    static final class RecordingStatementInspector implements StatementInspector {
+        private final List<String> statements = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public String inspect(final String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        List<String> getStatements() {
+            return List.copyOf(statements);
+        }
+
+        void clear() {
+            statements.clear();
+        }
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class InspectorConfig {
+        @Bean
+        RecordingStatementInspector recordingStatementInspector() {
+            return new RecordingStatementInspector();
+        }
+
+        @Bean
+        HibernatePropertiesCustomizer statementInspectorCustomizer(final RecordingStatementInspector inspector) {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, inspector);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.acme.jobconnect.service;
+
+import com.acme.jobconnect.entity.Application;
+import com.acme.jobconnect.entity.JobOffer;
+import com.acme.jobconnect.repository.ApplicationRepository;
+import com.acme.jobconnect.repository.JobOfferRepository;
+import java.sql.SQLException;
+import java.util.UUID;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import static com.acme.jobconnect.service.ApplicationWriteService.JOBOFFER_FK;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.condition.JRE.JAVA_25;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+@Tag("service-write")
+@DisplayName("Geschaeftslogik fuer Schreiben (Application)")
+@ExtendWith(MockitoExtension.class)
+@EnabledForJreRange(min = JAVA_25, max = JAVA_25)
+class ApplicationWriteServiceTest {
+    private static final UUID JOBOFFER_ID = randomUUID();
+
+    @Mock
+    private JobOfferRepository jobOfferRepo;
+
+    @Mock
+    private ApplicationRepository applicationRepo;
+
+    private ApplicationWriteService service;
+
+    @BeforeEach
+    void beforeEach() {
+        service = new ApplicationWriteService(jobOfferRepo, applicationRepo);
+    }
+
+    @Test
+    @DisplayName("Neue Bewerbung ueber die Referenz auf das JobOffer anhaengen")
+    void create() {
+        // given
+        final var jobOffer = new JobOffer();
+        jobOffer.setId(JOBOFFER_ID);
+        final var application = new Application();
+        when(jobOfferRepo.getReferenceById(JOBOFFER_ID)).thenReturn(jobOffer);
+        when(applicationRepo.saveAndFlush(application)).thenReturn(application);
+
+        // when
+        final var result = service.create(JOBOFFER_ID, application);
+
+        // then
+        assertThat(result.getJobOffer()).isSameAs(jobOffer);
+        verify(applicationRepo).saveAndFlush(application);
+    }
+
+    @Test
+    @DisplayName("Neue Bewerbung zu einem nicht-vorhandenen JobOffer")
+    void createJobOfferNichtVorhanden() {
+        // given
+        final var application = new Application();
+        final var cause = new ConstraintViolationException("FK", new SQLException("FK"), JOBOFFER_FK);
+        when(jobOfferRepo.getReferenceById(JOBOFFER_ID)).thenReturn(new JobOffer());
+        when(applicationRepo.saveAndFlush(application)).thenThrow(new DataIntegrityViolationException("FK", cause));
+
+        // when / then
+        assertThatThrownBy(() -> service.create(JOBOFFER_ID, application))
+            .isInstanceOf(NotFoundException.class);
+    }
+}
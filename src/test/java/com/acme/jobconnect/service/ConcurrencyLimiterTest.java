@@ -0,0 +1,114 @@
+package com.acme.jobconnect.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import static com.acme.jobconnect.service.ConcurrencyLimiter.REJECTED_COUNTER;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.junit.jupiter.api.condition.JRE.JAVA_25;
+
+@Tag("unit")
+@Tag("service-limiter")
+@DisplayName("Adaptive Begrenzung der gleichzeitigen Zugriffe auf die DB")
+@EnabledForJreRange(min = JAVA_25, max = JAVA_25)
+class ConcurrencyLimiterTest {
+    private static final int MAX_CONCURRENT = 4;
+    private static final Duration MAX_WAIT = Duration.ofMillis(50);
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(2);
+
+    private SimpleMeterRegistry registry;
+    private ConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void beforeEach() {
+        registry = new SimpleMeterRegistry();
+        final var config = new ConcurrencyLimitConfig(MAX_CONCURRENT, 1, MAX_WAIT, 2.0, 0.5, RETRY_AFTER);
+        limiter = new ConcurrencyLimiter(config, registry);
+    }
+
+    @Test
+    @DisplayName("Mit freiem Zugriff wird die Operation ausgefuehrt")
+    void call() {
+        // when
+        final var result = limiter.call(() -> "ok");
+
+        // then
+        assertThat(result).isEqualTo("ok");
+        assertThat(limiter.getLimit()).isEqualTo(MAX_CONCURRENT);
+    }
+
+    @Test
+    @DisplayName("Ohne freien Zugriff wird nach der Wartezeit mit Retry-After abgewiesen")
+    void callOverloaded() {
+        // when
+        final var ex = catchThrowableOfType(OverloadedException.class, () -> callNested(MAX_CONCURRENT + 1));
+
+        // then
+        assertThat(ex).isNotNull();
+        assertThat(ex.getRetryAfter()).isEqualTo(RETRY_AFTER);
+        assertThat(registry.get(REJECTED_COUNTER).counter().count()).isOne();
+    }
+
+    @Test
+    @DisplayName("Bei deutlich laengerer Dauer wird das Limit gesenkt")
+    void callLangsam() {
+        // given
+        limiter.call(() -> "schnell");
+
+        // when
+        limiter.run(() -> sleep(Duration.ofMillis(50)));
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(MAX_CONCURRENT / 2);
+    }
+
+    @Test
+    @DisplayName("Ein langer Import senkt das Limit fuer die Suche nicht")
+    void callUnsampledLangsam() {
+        // given
+        limiter.call(() -> "Suche");
+
+        // when
+        limiter.callUnsampled(() -> {
+            sleep(Duration.ofMillis(50));
+            return "Import";
+        });
+        final var result = limiter.call(() -> "Suche");
+
+        // then
+        assertThat(result).isEqualTo("Suche");
+        assertThat(limiter.getLimit()).isEqualTo(MAX_CONCURRENT);
+    }
+
+    @Test
+    @DisplayName("Nach einer Exception ist der Zugriff wieder frei")
+    void callNachException() {
+        // given
+        catchThrowableOfType(IllegalStateException.class, () -> limiter.run(() -> {
+            throw new IllegalStateException("Fehler in der Operation");
+        }));
+
+        // when
+        final var result = limiter.call(() -> "ok");
+
+        // then
+        assertThat(result).isEqualTo("ok");
+    }
+
+    private String callNested(final int depth) {
+        return depth == 0 ? "nicht ausgefuehrt" : limiter.call(() -> callNested(depth - 1));
+    }
+
+    private static void sleep(final Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (final InterruptedException _) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.acme.jobconnect.service;
+
+import com.acme.jobconnect.entity.EmploymentType;
+import com.acme.jobconnect.entity.JobOffer;
+import com.acme.jobconnect.entity.JobOfferStatus;
+import com.acme.jobconnect.repository.CompanyTitleRepository;
+import com.acme.jobconnect.repository.JobDescriptionBuilder;
+import com.acme.jobconnect.repository.JobOfferBuilder;
+import com.acme.jobconnect.repository.JobOfferRepository;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import static com.acme.jobconnect.service.BatchResult.Outcome.CREATED;
+import static com.acme.jobconnect.service.BatchResult.Outcome.DUPLICATE;
+import static com.acme.jobconnect.service.BatchResult.Outcome.FAILED;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.condition.JRE.JAVA_25;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+@Tag("service-batch")
+@DisplayName("Geschaeftslogik fuer das Neuanlegen im Batch")
+@ExtendWith(MockitoExtension.class)
+@EnabledForJreRange(min = JAVA_25, max = JAVA_25)
+class JobOfferBatchServiceTest {
+    private static final String COMPANY_OK = "Mercedes-Benz AG";
+    private static final String COMPANY_FEHLER = "Fehler AG";
+
+    @Mock
+    private JobOfferRepository repo;
+
+    @Mock
+    private CompanyTitleRepository companyTitleRepo;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private TransactionStatus transactionStatus;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private JobOfferBatchService service;
+
+    @BeforeEach
+    void beforeEach() {
+        service = new JobOfferBatchService(repo, companyTitleRepo, transactionManager, eventPublisher, 500);
+    }
+
+    @Test
+    @DisplayName("Ein fehlerhaftes JobOffer laesst nur sich selbst scheitern, nicht den ganzen Block")
+    void createAllEinzelnWiederholen() {
+        // given
+        final var jobOffers = List.of(createJobOffer(COMPANY_OK), createJobOffer(COMPANY_FEHLER));
+        when(companyTitleRepo.findExisting(anyCollection())).thenReturn(Set.of());
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        when(repo.saveAll(anyList())).thenAnswer(invocation -> {
+            final List<JobOffer> chunk = invocation.getArgument(0);
+            if (chunk.stream().anyMatch(jobOffer -> COMPANY_FEHLER.equals(jobOffer.getCompany()))) {
+                throw new DataIntegrityViolationException("check constraint");
+            }
+            return chunk;
+        });
+
+        // when
+        final var results = service.createAll(jobOffers);
+
+        // then
+        assertThat(results)
+            .extracting(BatchResult::outcome)
+            .containsExactly(CREATED, FAILED);
+        verify(repo, times(3)).saveAll(anyList());
+        verify(eventPublisher).publishEvent(new JobOffersChangedEvent("createAll"));
+    }
+
+    @Test
+    @DisplayName("Ein parallel angelegtes JobOffer wird als Duplikat gemeldet")
+    void createAllParallelAngelegt() {
+        // given
+        final var jobOffers = List.of(createJobOffer(COMPANY_OK), createJobOffer(COMPANY_FEHLER));
+        when(companyTitleRepo.findExisting(anyCollection())).thenReturn(Set.of());
+        when(transactionManager.getTransaction(any())).thenReturn(transactionStatus);
+        final var cause = new ConstraintViolationException(
+            "unique", new SQLException("unique"), JobOfferWriteService.COMPANY_TITLE_KEY
+        );
+        when(repo.saveAll(anyList())).thenAnswer(invocation -> {
+            final List<JobOffer> chunk = invocation.getArgument(0);
+            if (chunk.stream().anyMatch(jobOffer -> COMPANY_FEHLER.equals(jobOffer.getCompany()))) {
+                throw new DataIntegrityViolationException("unique", cause);
+            }
+            return chunk;
+        });
+
+        // when
+        final var results = service.createAll(jobOffers);
+
+        // then
+        assertThat(results)
+            .extracting(BatchResult::outcome)
+            .containsExactly(CREATED, DUPLICATE);
+        verify(repo, times(3)).saveAll(anyList());
+    }
+
+    private static JobOffer createJobOffer(final String company) {
+        final var description = JobDescriptionBuilder.getBuilder()
+            .setId(randomUUID())
+            .setTite("Junior Developer")
+            .setLocation("Karlsruhe")
+            .setSalary(BigDecimal.valueOf(50000))
+            .setSummary("Summary")
+            .setResponsibilities("Resp")
+            .setRequirements("Req")
+            .setEmployment(EmploymentType.FULLTIME)
+            .build();
+
+        return JobOfferBuilder.getBuilder()
+            .setId(randomUUID())
+            .setVersion(0)
+            .setCompany(company)
+            .setPublicationdate(LocalDate.now())
+            .setExpirationdate(LocalDate.now().plusMonths(3))
+            .setStatus(JobOfferStatus.ACTIVE)
+            .setDescription(description)
+            .setApplications(List.of())
+            .build();
+    }
+}
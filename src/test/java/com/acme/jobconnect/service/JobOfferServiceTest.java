@@ -10,7 +10,10 @@ import com.acme.jobconnect.entity.JobOfferStatus;
 import com.acme.jobconnect.repository.ApplicationBuilder;
 import com.acme.jobconnect.repository.JobDescriptionBuilder;
 import com.acme.jobconnect.repository.JobOfferBuilder;
+import com.acme.jobconnect.repository.JobOfferField;
 import com.acme.jobconnect.repository.JobOfferRepository;
+import com.acme.jobconnect.repository.JobOfferSummary;
+import com.acme.jobconnect.repository.JobOfferSummaryRepository;
 import com.acme.jobconnect.repository.SpecificationBuilder;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.lang.reflect.InvocationTargetException;
@@ -37,9 +40,9 @@ import org.mockito.ArgumentMatchers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.MultiValueMap;
@@ -48,6 +51,7 @@ import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.catchThrowableOfType;
 import static org.junit.jupiter.api.condition.JRE.JAVA_25;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 @Tag("unit")
@@ -66,6 +70,9 @@ class JobOfferServiceTest {
     @Mock
     private JobOfferRepository repo;
 
+    @Mock
+    private JobOfferSummaryRepository summaryRepo;
+
     private final SpecificationBuilder specificationBuilder;
     private JobOfferService service;
 
@@ -87,94 +94,119 @@ class JobOfferServiceTest {
 
     @BeforeEach
     void beforeEach() {
-        service = new JobOfferService(repo, specificationBuilder);
+        service = new JobOfferService(repo, summaryRepo, specificationBuilder);
     }
 
-    @Test
-    @DisplayName("Suche alle JobOffers (ohne Parameter)")
-    void findAll() {
-        // given
-        final var jobOffer = createJobOfferMock(COMPANY);
-        final var jobOffersMock = new PageImpl<>(List.of(jobOffer));
-        final Map<String, List<String>> keineSuchparameter = MultiValueMap.fromSingleValue(Map.of());
+    @Nested
+    @DisplayName("Geschaeftslogik fuer die Suche mit Projektionen")
+    class FindSummaries {
+        @Test
+        @DisplayName("Suche alle JobOffers als Projektion (ohne Parameter)")
+        void findSummaries() {
+            // given
+            final var summary = createJobOfferSummary(COMPANY);
+            final Map<String, List<String>> keineSuchparameter = MultiValueMap.fromSingleValue(Map.of());
+            when(summaryRepo.find(ArgumentMatchers.<Specification<JobOffer>>any(), eq(pageRequest0), eq(JobOfferField.DEFAULT)))
+                .thenReturn(new PageImpl<>(List.of(summary)));
 
-        // FIX: Mocke die Methode mit EINEM Argument (Pageable), da der Service diese aufruft, wenn keine Specs da sind.
-        when(repo.findAll(ArgumentMatchers.any(Pageable.class)))
-            .thenReturn(jobOffersMock);
+            // when
+            final var result = service.findSummaries(keineSuchparameter, pageRequest0, JobOfferField.DEFAULT);
 
-        // when
-        final var result = service.find(keineSuchparameter, pageRequest0);
+            // then
+            assertThat(result).containsExactly(summary);
+            softly.assertThat(result.getContent().getFirst().description().responsibilities()).isNull();
+        }
 
-        // then
-        assertThat(result).isNotEmpty();
-    }
+        @ParameterizedTest(name = "[{index}] Suche ohne Treffer: company={0}")
+        @ValueSource(strings = COMPANY)
+        @DisplayName("Suche als Projektion ohne Treffer")
+        void findSummariesNichtVorhanden(final String company) {
+            // given
+            final var suchparameter = MultiValueMap.fromSingleValue(Map.of("company", company));
+            when(summaryRepo.find(ArgumentMatchers.<Specification<JobOffer>>any(), eq(pageRequest0), eq(JobOfferField.ALL)))
+                .thenReturn(Page.empty());
 
-    @Nested
-    @DisplayName("Geschaeftslogik fuer Suche mit Parametern")
-    class FindByParams {
+            // when
+            final var notFoundException = catchThrowableOfType(
+                NotFoundException.class,
+                () -> service.findSummaries(suchparameter, pageRequest0, JobOfferField.ALL)
+            );
+
+            // then
+            assertThat(notFoundException).isNotNull();
+        }
 
         @ParameterizedTest(name = "[{index}] Suche mit ID: id={0}")
         @ValueSource(strings = ID_VORHANDEN)
-        @DisplayName("Suche mit Query-Parameter ID")
-        void findByParamId(final String idStr) {
+        @DisplayName("Suche als Projektion mit Query-Parameter ID")
+        void findSummariesByParamId(final String idStr) {
             // given
             final var id = UUID.fromString(idStr);
-            final var jobOffer = createJobOfferMock(id, COMPANY);
-            final var jobOffersMock = new PageImpl<>(List.of(jobOffer));
+            final var summary = createJobOfferSummary(id, COMPANY);
             final var suchparameter = MultiValueMap.fromSingleValue(Map.of("id", idStr));
-
-            // FIX: Mocke die Methode mit ZWEI Argumenten (Specification, Pageable)
-            when(repo.findAll(ArgumentMatchers.<Specification<JobOffer>>any(), ArgumentMatchers.any(Pageable.class)))
-                .thenReturn(jobOffersMock);
+            when(summaryRepo.find(ArgumentMatchers.<Specification<JobOffer>>any(), eq(pageRequest0), eq(JobOfferField.DEFAULT)))
+                .thenReturn(new PageImpl<>(List.of(summary)));
 
             // when
-            final var result = service.find(suchparameter, pageRequest0);
+            final var result = service.findSummaries(suchparameter, pageRequest0, JobOfferField.DEFAULT);
 
             // then
             assertThat(result).hasSize(1);
-            softly.assertThat(result.getContent().get(0).getId()).isEqualTo(id);
+            softly.assertThat(result.getContent().getFirst().id()).isEqualTo(id);
         }
 
-        @ParameterizedTest(name = "[{index}] Suche mit Company: company={0}")
-        @ValueSource(strings = COMPANY)
-        @DisplayName("Suche mit Query-Parameter Company")
-        void findByParamCompany(final String company) {
+        @ParameterizedTest(name = "[{index}] Suche mit ID und Company: id={0}, company={1}")
+        @CsvSource(ID_VORHANDEN + ',' + COMPANY)
+        @DisplayName("Suche als Projektion mit Query-Parameter ID und Company")
+        void findSummariesByParamIdAndCompany(final String idStr, final String company) {
             // given
-            final var jobOffer = createJobOfferMock(company);
-            final var jobOffersMock = new PageImpl<>(List.of(jobOffer));
-            final var suchparameter = MultiValueMap.fromSingleValue(Map.of("company", company));
-
-            when(repo.findAll(ArgumentMatchers.<Specification<JobOffer>>any(), ArgumentMatchers.any(Pageable.class)))
-                .thenReturn(jobOffersMock);
+            final var id = UUID.fromString(idStr);
+            final var summary = createJobOfferSummary(id, company);
+            final var suchparameter = MultiValueMap.fromSingleValue(Map.of("id", idStr, "company", company));
+            when(summaryRepo.find(ArgumentMatchers.<Specification<JobOffer>>any(), eq(pageRequest0), eq(JobOfferField.DEFAULT)))
+                .thenReturn(new PageImpl<>(List.of(summary)));
 
             // when
-            final var result = service.find(suchparameter, pageRequest0);
+            final var result = service.findSummaries(suchparameter, pageRequest0, JobOfferField.DEFAULT);
 
             // then
             assertThat(result).isNotEmpty();
-            softly.assertThat(result.getContent().get(0).getCompany()).isEqualTo(company);
+            softly.assertThat(result.getContent().getFirst().id()).isEqualTo(id);
+            softly.assertThat(result.getContent().getFirst().company()).isEqualTo(company);
         }
 
-        @ParameterizedTest(name = "[{index}] Suche mit ID und Company: id={0}, company={1}")
-        @CsvSource(ID_VORHANDEN + ',' + COMPANY)
-        @DisplayName("Suche mit Query-Parameter ID und Company")
-        void findByParamIdAndCompany(final String idStr, final String company) {
+        @ParameterizedTest(name = "[{index}] Suche mit Praefix des Firmennamens: company={0}")
+        @ValueSource(strings = COMPANY)
+        @DisplayName("Suche als Projektion mit Praefix des Firmennamens")
+        void findSummariesByCompany(final String company) {
             // given
-            final var id = UUID.fromString(idStr);
-            final var jobOffer = createJobOfferMock(id, company);
-            final var jobOffersMock = new PageImpl<>(List.of(jobOffer));
-            final var suchparameter = MultiValueMap.fromSingleValue(Map.of("id", idStr, "company", company));
-
-            when(repo.findAll(ArgumentMatchers.<Specification<JobOffer>>any(), ArgumentMatchers.any(Pageable.class)))
-                .thenReturn(jobOffersMock);
+            final var summary = createJobOfferSummary(randomUUID(), company);
+            when(summaryRepo.findByCompany(company, pageRequest0, JobOfferField.DEFAULT))
+                .thenReturn(new PageImpl<>(List.of(summary)));
 
             // when
-            final var result = service.find(suchparameter, pageRequest0);
+            final var result = service.findSummariesByCompany(company, pageRequest0, JobOfferField.DEFAULT);
 
             // then
             assertThat(result).isNotEmpty();
-            softly.assertThat(result.getContent().get(0).getId()).isEqualTo(id);
-            softly.assertThat(result.getContent().get(0).getCompany()).isEqualTo(company);
+            softly.assertThat(result.getContent().getFirst().company()).isEqualTo(company);
+        }
+
+        @ParameterizedTest(name = "[{index}] Suche mit Praefix ohne Treffer: company={0}")
+        @ValueSource(strings = COMPANY)
+        @DisplayName("Suche als Projektion mit Praefix des Firmennamens ohne Treffer")
+        void findSummariesByCompanyNichtVorhanden(final String company) {
+            // given
+            when(summaryRepo.findByCompany(company, pageRequest0, JobOfferField.DEFAULT)).thenReturn(Page.empty());
+
+            // when
+            final var notFoundException = catchThrowableOfType(
+                NotFoundException.class,
+                () -> service.findSummariesByCompany(company, pageRequest0, JobOfferField.DEFAULT)
+            );
+
+            // then
+            assertThat(notFoundException).isNotNull();
         }
     }
 
@@ -221,8 +253,25 @@ class JobOfferServiceTest {
         }
     }
 
-    private JobOffer createJobOfferMock(final String company) {
-        return createJobOfferMock(randomUUID(), company);
+    private static JobOfferSummary createJobOfferSummary(final String company) {
+        return createJobOfferSummary(randomUUID(), company);
+    }
+
+    private static JobOfferSummary createJobOfferSummary(final UUID id, final String company) {
+        return new JobOfferSummary(
+            id,
+            company,
+            LocalDate.now(),
+            LocalDate.now().plusDays(30),
+            0,
+            JobOfferStatus.ACTIVE,
+            randomUUID(),
+            TITLE,
+            "Karlsruhe",
+            BigDecimal.valueOf(60000),
+            "Summary",
+            EmploymentType.FULLTIME
+        );
     }
 
     private JobOffer createJobOfferMock(final UUID id, final String company) {
@@ -4,19 +4,25 @@ import com.acme.jobconnect.entity.ApplicationStatus;
 import com.acme.jobconnect.entity.EmploymentType;
 import com.acme.jobconnect.entity.JobOffer;
 import com.acme.jobconnect.entity.JobOfferStatus;
+import com.acme.jobconnect.entity.OutboxMail;
 import com.acme.jobconnect.mail.MailConfig;
 import com.acme.jobconnect.mail.MailService;
 import com.acme.jobconnect.repository.ApplicationBuilder;
 import com.acme.jobconnect.repository.JobDescriptionBuilder;
 import com.acme.jobconnect.repository.JobOfferBuilder;
+import com.acme.jobconnect.repository.JobOfferDeleteRepository;
 import com.acme.jobconnect.repository.JobOfferRepository;
-import jakarta.mail.internet.MimeMessage;
+import com.acme.jobconnect.repository.JobOfferUpdateRepository;
+import com.acme.jobconnect.repository.OutboxMailRepository;
 import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 import java.net.URI;
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import org.assertj.core.api.SoftAssertions;
+import org.hibernate.exception.ConstraintViolationException;
 import org.assertj.core.api.junit.jupiter.InjectSoftAssertions;
 import org.assertj.core.api.junit.jupiter.SoftAssertionsExtension;
 import org.jspecify.annotations.Nullable;
@@ -29,16 +35,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.aggregator.ArgumentsAccessor;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.postgresql.util.PSQLException;
+import org.postgresql.util.ServerErrorMessage;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 
 import java.util.UUID;
 
 import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.junit.jupiter.api.condition.JRE.JAVA_25;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @Tag("unit")
@@ -55,13 +69,19 @@ class JobOfferWriteServiceTest {
     private JobOfferRepository repo;
 
     @Mock
-    private JavaMailSender mailSender;
+    private JobOfferUpdateRepository updateRepo;
+
+    @Mock
+    private JobOfferDeleteRepository deleteRepo;
+
+    @Mock
+    private OutboxMailRepository outboxRepo;
 
     @Mock
     private MailConfig mailConfig;
 
     @Mock
-    private MimeMessage mimeMessage;
+    private ApplicationEventPublisher eventPublisher;
 
     private JobOfferWriteService service;
 
@@ -73,9 +93,9 @@ class JobOfferWriteServiceTest {
         final var mailServiceConstrs = MailService.class.getDeclaredConstructors();
         final var mailServiceConstr = mailServiceConstrs[0];
         mailServiceConstr.setAccessible(true);
-        final var mailService = (MailService) mailServiceConstr.newInstance(mailSender, mailConfig);
+        final var mailService = (MailService) mailServiceConstr.newInstance(outboxRepo, mailConfig);
 
-        service = new JobOfferWriteService(repo, mailService);
+        service = new JobOfferWriteService(repo, updateRepo, deleteRepo, mailService, eventPublisher);
     }
 
     @Nested
@@ -95,17 +115,12 @@ class JobOfferWriteServiceTest {
 
             final var jobOfferSaved = createJobOfferMock(randomUUID(), company, title);
 
-            // Mock Repository: save liefert das Objekt mit ID zurück
-            when(repo.save(org.mockito.ArgumentMatchers.any(JobOffer.class))).thenReturn(jobOfferSaved);
+            // Mock Repository: saveAndFlush liefert das Objekt mit ID zurück
+            when(repo.saveAndFlush(org.mockito.ArgumentMatchers.any(JobOffer.class))).thenReturn(jobOfferSaved);
 
-            // Mock Mail: HIER WAR DER FEHLER - sales() (oder to()) hat gefehlt
-            when(mailSender.createMimeMessage()).thenReturn(mimeMessage);
-            when(mailConfig.from()).thenReturn("noreply@jobconnect.acme.com");
-            // !!! WICHTIG: Empfänger-Adresse mocken !!!
+            // Mock Mail: Empfänger-Adresse für die Email in der Outbox
             when(mailConfig.sales()).thenReturn("admin@jobconnect.acme.com");
 
-            doNothing().when(mailSender).send(mimeMessage);
-
             // when
             final var result = service.create(jobOfferSaved);
 
@@ -113,6 +128,193 @@ class JobOfferWriteServiceTest {
             assertThat(result).isNotNull();
             softly.assertThat(result.getId()).isNotNull();
             softly.assertThat(result.getCompany()).isEqualTo(company);
+            verify(outboxRepo).save(org.mockito.ArgumentMatchers.any(OutboxMail.class));
+            verify(eventPublisher).publishEvent(new JobOffersChangedEvent("create"));
+        }
+
+        @ParameterizedTest(name = "[{index}] Neuanlegen mit vorhandenem Titel: company={0}, title={1}")
+        @CsvSource(COMPANY + ',' + TITLE)
+        @DisplayName("Neuanlegen mit vorhandenem Titel der Firma")
+        void createVorhanden(final String company, final String title) {
+            // given
+            final var jobOffer = createJobOfferMock(null, company, title);
+            final var cause = new ConstraintViolationException(
+                "unique", new SQLException("unique"), JobOfferWriteService.COMPANY_TITLE_KEY
+            );
+            when(repo.saveAndFlush(jobOffer)).thenThrow(new DataIntegrityViolationException("unique", cause));
+
+            // when
+            final var ex = catchThrowableOfType(JobOfferExistsException.class, () -> service.create(jobOffer));
+
+            // then
+            assertThat(ex).isNotNull();
+            softly.assertThat(ex.getCompany()).isEqualTo(company);
+            softly.assertThat(ex.getTitle()).isEqualTo(title);
+            verifyNoInteractions(outboxRepo, eventPublisher);
+        }
+    }
+
+    @Nested
+    @DisplayName("Geschaeftslogik fuer Aendern")
+    class Update {
+        @ParameterizedTest(name = "[{index}] Aendern eines JobOffers: company={0}, title={1}")
+        @CsvSource(COMPANY + ',' + TITLE)
+        @DisplayName("Aendern eines JobOffers mit einem einzigen UPDATE")
+        void update(final String company, final String title) {
+            // given
+            final var id = randomUUID();
+            final var jobOffer = createJobOfferMock(null, company, title);
+            when(updateRepo.update(jobOffer, id, 0)).thenReturn(1);
+
+            // when
+            final var newVersion = service.update(jobOffer, id, 0);
+
+            // then
+            assertThat(newVersion).isOne();
+            verify(repo, never()).findById(id);
+            verify(updateRepo, never()).findVersion(id);
+            verify(eventPublisher).publishEvent(new JobOffersChangedEvent("update"));
+        }
+
+        @ParameterizedTest(name = "[{index}] Aendern mit nicht-vorhandener ID: company={0}, title={1}")
+        @CsvSource(COMPANY + ',' + TITLE)
+        @DisplayName("Aendern mit nicht-vorhandener ID")
+        void updateNichtVorhanden(final String company, final String title) {
+            // given
+            final var id = randomUUID();
+            final var jobOffer = createJobOfferMock(null, company, title);
+            when(updateRepo.update(jobOffer, id, 0)).thenReturn(null);
+            when(updateRepo.findVersion(id)).thenReturn(null);
+
+            // when
+            final var ex = catchThrowableOfType(NotFoundException.class, () -> service.update(jobOffer, id, 0));
+
+            // then
+            assertThat(ex).isNotNull();
+            assertThat(ex.getId()).isEqualTo(id);
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @ParameterizedTest(name = "[{index}] Aendern mit veralteter Version: company={0}, title={1}")
+        @CsvSource(COMPANY + ',' + TITLE)
+        @DisplayName("Aendern mit veralteter Version")
+        void updateVersionOutdated(final String company, final String title) {
+            // given
+            final var id = randomUUID();
+            final var jobOffer = createJobOfferMock(null, company, title);
+            when(updateRepo.update(jobOffer, id, 0)).thenReturn(null);
+            when(updateRepo.findVersion(id)).thenReturn(1);
+
+            // when
+            final var ex = catchThrowableOfType(
+                VersionOutdatedException.class,
+                () -> service.update(jobOffer, id, 0)
+            );
+
+            // then
+            assertThat(ex).isNotNull();
+            assertThat(ex.getVersion()).isZero();
+            verifyNoInteractions(eventPublisher);
+        }
+
+        @ParameterizedTest(name = "[{index}] Aendern mit vorhandenem Titel der neuen Firma: company={0}, title={1}")
+        @CsvSource(COMPANY + ',' + TITLE)
+        @DisplayName("Aendern mit vorhandenem Titel der neuen Firma")
+        void updateVorhanden(final String company, final String title) {
+            // given
+            final var id = randomUUID();
+            final var jobOffer = createJobOfferMock(null, company, title);
+            final var cause = new PSQLException(new ServerErrorMessage(
+                "SERROR\0C23505\0Mduplicate key\0n" + JobOfferWriteService.COMPANY_TITLE_KEY + '\0'
+            ));
+            when(updateRepo.update(jobOffer, id, 0)).thenThrow(new DuplicateKeyException("duplicate key", cause));
+
+            // when
+            final var ex = catchThrowableOfType(
+                JobOfferExistsException.class,
+                () -> service.update(jobOffer, id, 0)
+            );
+
+            // then
+            assertThat(ex).isNotNull();
+            assertThat(ex.getCompany()).isEqualTo(company);
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+
+    @Nested
+    @DisplayName("Geschaeftslogik fuer Patchen")
+    class Patch {
+        @ParameterizedTest(name = "[{index}] Status aendern: status={0}")
+        @ValueSource(strings = "DRAFT")
+        @DisplayName("Nur den Status eines JobOffers aendern")
+        void patch(final JobOfferStatus status) {
+            // given
+            final var id = randomUUID();
+            final Map<String, Object> columns = Map.of("status", status);
+            when(updateRepo.patch(columns, id, 0)).thenReturn(1);
+
+            // when
+            final var newVersion = service.patch(columns, id, 0);
+
+            // then
+            assertThat(newVersion).isOne();
+            verify(eventPublisher).publishEvent(new JobOffersChangedEvent("patch"));
+        }
+
+        @ParameterizedTest(name = "[{index}] Leerer Patch: version={0}")
+        @ValueSource(ints = 0)
+        @DisplayName("Ein leerer Patch prueft nur die Version")
+        void patchLeer(final int version) {
+            // given
+            final var id = randomUUID();
+            when(updateRepo.findVersion(id)).thenReturn(version);
+
+            // when
+            final var newVersion = service.patch(Map.of(), id, version);
+
+            // then
+            assertThat(newVersion).isEqualTo(version);
+            verifyNoInteractions(updateRepo, eventPublisher);
+        }
+    }
+
+    @Nested
+    @DisplayName("Geschaeftslogik fuer Loeschen")
+    class Delete {
+        @ParameterizedTest(name = "[{index}] Loeschen ohne vorheriges Lesen: vorhanden={0}")
+        @ValueSource(booleans = {true, false})
+        @DisplayName("Loeschen eines JobOffers ohne vorheriges Lesen")
+        void deleteById(final boolean vorhanden) {
+            // given
+            final var id = randomUUID();
+            when(deleteRepo.deleteById(id)).thenReturn(vorhanden);
+
+            // when
+            service.deleteById(id);
+
+            // then
+            verify(repo, never()).findById(id);
+            if (vorhanden) {
+                verify(eventPublisher).publishEvent(new JobOffersChangedEvent("delete"));
+            } else {
+                verifyNoInteractions(eventPublisher);
+            }
+        }
+
+        @ParameterizedTest(name = "[{index}] Loeschen abgelaufener JobOffers: status={0}, expiredBefore={1}")
+        @CsvSource("CLOSED,2026-01-01")
+        @DisplayName("Loeschen abgelaufener JobOffers mit einem Status")
+        void deleteExpired(final JobOfferStatus status, final LocalDate expiredBefore) {
+            // given
+            when(deleteRepo.deleteExpired(status, expiredBefore)).thenReturn(2);
+
+            // when
+            final var count = service.deleteExpired(status, expiredBefore);
+
+            // then
+            assertThat(count).isEqualTo(2);
+            verify(eventPublisher).publishEvent(new JobOffersChangedEvent("delete"));
         }
     }
 
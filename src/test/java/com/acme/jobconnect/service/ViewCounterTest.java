@@ -0,0 +1,137 @@
+package com.acme.jobconnect.service;
+
+import com.acme.jobconnect.repository.ViewCountRepository;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.condition.JRE.JAVA_25;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@Tag("unit")
+@Tag("service-views")
+@DisplayName("Zaehler fuer die Aufrufe von JobOffers")
+@ExtendWith(MockitoExtension.class)
+@EnabledForJreRange(min = JAVA_25, max = JAVA_25)
+class ViewCounterTest {
+    private static final UUID ID = randomUUID();
+    private static final int THREADS = 8;
+    private static final int INCREMENTS = 10_000;
+
+    @Mock
+    private ViewCountRepository repo;
+
+    private ViewCounter viewCounter;
+
+    @BeforeEach
+    void beforeEach() {
+        viewCounter = new ViewCounter(repo);
+    }
+
+    @Test
+    @DisplayName("Aufrufe werden gebuendelt geschrieben")
+    void flush() {
+        // given
+        viewCounter.increment(ID);
+        viewCounter.increment(ID);
+        viewCounter.increment(ID);
+
+        // when
+        viewCounter.flush();
+
+        // then
+        verify(repo).addViews(Map.of(ID, 3L));
+        assertThat(viewCounter.backlog()).isZero();
+    }
+
+    @Test
+    @DisplayName("Ohne neue Aufrufe wird nichts geschrieben")
+    void flushOhneAufrufe() {
+        // when
+        viewCounter.flush();
+
+        // then
+        verify(repo, never()).addViews(anyMap());
+    }
+
+    @Test
+    @DisplayName("Nach einem Fehler bleiben die Aufrufe erhalten")
+    void flushFehler() {
+        // given
+        viewCounter.increment(ID);
+        viewCounter.increment(ID);
+        when(repo.addViews(anyMap())).thenThrow(new QueryTimeoutException("Timeout"));
+
+        // when
+        viewCounter.flush();
+
+        // then
+        assertThat(viewCounter.backlog()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Nach dem Entfernen eines ungenutzten Zaehlers wird ein neuer Aufruf gezaehlt")
+    void flushNachEntfernen() {
+        // given
+        viewCounter.increment(ID);
+        viewCounter.flush();
+        viewCounter.flush();
+
+        // when
+        viewCounter.increment(ID);
+        viewCounter.flush();
+
+        // then
+        verify(repo, times(2)).addViews(Map.of(ID, 1L));
+        assertThat(viewCounter.backlog()).isZero();
+    }
+
+    @Test
+    @DisplayName("Bei gleichzeitigen Aufrufen und Schreiben geht kein Aufruf verloren")
+    void flushNebenlaeufig() throws InterruptedException {
+        // given
+        final var written = new LongAdder();
+        when(repo.addViews(anyMap())).thenAnswer(invocation -> {
+            final Map<UUID, Long> deltas = invocation.getArgument(0);
+            deltas.values().forEach(written::add);
+            return deltas.size();
+        });
+        final var threads = new ArrayList<Thread>();
+        for (var i = 0; i < THREADS; i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                for (var j = 0; j < INCREMENTS; j++) {
+                    viewCounter.increment(ID);
+                }
+            }));
+        }
+
+        // when
+        for (final var thread : threads) {
+            while (thread.isAlive()) {
+                viewCounter.flush();
+            }
+            thread.join();
+        }
+        viewCounter.flush();
+        viewCounter.flush();
+
+        // then
+        assertThat(written.sum()).isEqualTo((long) THREADS * INCREMENTS);
+        assertThat(viewCounter.backlog()).isZero();
+    }
+}